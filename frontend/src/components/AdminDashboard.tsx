@@ -1,11 +1,18 @@
 import React, { useState, useEffect } from 'react';
 import { useAuth } from '../contexts/AuthContext';
-import { questionAPI } from '../services/api';
-import { Question, QuestionRequest } from '../types';
+import { analyticsAPI, questionAPI } from '../services/api';
+import { Question, QuestionAnalytics, QuestionRequest } from '../types';
+
+const PAGE_SIZE = 20;
 
 const AdminDashboard: React.FC = () => {
   const [questions, setQuestions] = useState<Question[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [totalCount, setTotalCount] = useState<number | null>(0);
+  const [analytics, setAnalytics] = useState<Map<number, QuestionAnalytics>>(new Map());
+  const [search, setSearch] = useState<string>('');
   const [loading, setLoading] = useState<boolean>(true);
+  const [loadingMore, setLoadingMore] = useState<boolean>(false);
   const [error, setError] = useState<string>('');
   const [showModal, setShowModal] = useState<boolean>(false);
   const [editingQuestion, setEditingQuestion] = useState<Question | null>(null);
@@ -23,13 +30,25 @@ const AdminDashboard: React.FC = () => {
 
   useEffect(() => {
     fetchQuestions();
+    fetchAnalytics();
   }, []);
 
-  const fetchQuestions = async () => {
+  const fetchAnalytics = async () => {
+    try {
+      const data = await analyticsAPI.getQuestionAnalytics();
+      setAnalytics(new Map(data.map(item => [item.questionId, item])));
+    } catch (err) {
+      // Analytics are optional; the questions still show without them
+    }
+  };
+
+  const fetchQuestions = async (query: string = search) => {
     try {
       setLoading(true);
-      const data = await questionAPI.getAllQuestions();
-      setQuestions(data);
+      const page = await questionAPI.getQuestionPage(null, PAGE_SIZE, query);
+      setQuestions(page.questions);
+      setNextCursor(page.nextCursor);
+      setTotalCount(page.totalCount);
     } catch (err) {
       setError('Failed to fetch questions');
     } finally {
@@ -37,6 +56,44 @@ const AdminDashboard: React.FC = () => {
     }
   };
 
+  const fetchMoreQuestions = async () => {
+    if (nextCursor === null) {
+      return;
+    }
+    try {
+      setLoadingMore(true);
+      const page = await questionAPI.getQuestionPage(nextCursor, PAGE_SIZE, search);
+      setQuestions([...questions, ...page.questions]);
+      setNextCursor(page.nextCursor);
+      setTotalCount(page.totalCount);
+    } catch (err) {
+      setError('Failed to fetch questions');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  const formatPercentCorrect = (questionId: number) => {
+    const stats = analytics.get(questionId);
+    if (!stats || stats.percentCorrect === null) {
+      return null;
+    }
+    return `${Math.round(stats.percentCorrect)}% correct (${stats.answeredCount} answers)`;
+  };
+
+  const formatPickPercentage = (questionId: number, optionId?: number) => {
+    const option = analytics.get(questionId)?.options.find(o => o.optionId === optionId);
+    if (!option || option.pickPercentage === null) {
+      return null;
+    }
+    return `${Math.round(option.pickPercentage)}% picked`;
+  };
+
+  const handleSearch = (e: React.FormEvent) => {
+    e.preventDefault();
+    fetchQuestions(search);
+  };
+
   const handleAddQuestion = () => {
     setEditingQuestion(null);
     setFormData({
@@ -56,6 +113,7 @@ const AdminDashboard: React.FC = () => {
     setFormData({
       questionText: question.questionText,
       options: question.options.map(opt => ({
+        id: opt.id,
         optionText: opt.optionText,
         isCorrect: opt.isCorrect || false
       }))
@@ -64,7 +122,7 @@ const AdminDashboard: React.FC = () => {
   };
 
   const handleDeleteQuestion = async (id: number) => {
-    if (window.confirm('Are you sure you want to delete this question?')) {
+    if (window.confirm('Are you sure you want to delete this question? Its earlier versions and every answer recorded for it will be erased, so past attempts lose their review of it.')) {
       try {
         await questionAPI.deleteQuestion(id);
         fetchQuestions();
@@ -146,12 +204,23 @@ const AdminDashboard: React.FC = () => {
       )}
 
       <div className="d-flex justify-content-between align-items-center mb-3">
-        <h2>Questions Management</h2>
+        <h2>Questions Management {totalCount !== null && <small className="text-muted fs-6">({totalCount} total)</small>}</h2>
         <button className="btn btn-primary" onClick={handleAddQuestion}>
           Add New Question
         </button>
       </div>
 
+      <form className="d-flex mb-3" onSubmit={handleSearch}>
+        <input
+          type="search"
+          className="form-control me-2"
+          placeholder="Search questions"
+          value={search}
+          onChange={(e) => setSearch(e.target.value)}
+        />
+        <button type="submit" className="btn btn-outline-secondary">Search</button>
+      </form>
+
       <div className="row">
         {questions.map((question) => (
           <div key={question.id} className="col-md-6 col-lg-4 mb-4">
@@ -159,12 +228,18 @@ const AdminDashboard: React.FC = () => {
               <div className="card-body">
                 <h5 className="card-title">Question {question.id}</h5>
                 <p className="card-text">{question.questionText}</p>
+                {formatPercentCorrect(question.id) && (
+                  <p className="small text-muted">{formatPercentCorrect(question.id)}</p>
+                )}
                 <div className="mb-3">
                   <strong>Options:</strong>
                   <ul className="list-unstyled mt-2">
                     {question.options.map((option, index) => (
                       <li key={index} className={option.isCorrect ? 'text-success' : ''}>
                         {option.optionText} {option.isCorrect && '(Correct)'}
+                        {formatPickPercentage(question.id, option.id) && (
+                          <span className="text-muted small ms-1">({formatPickPercentage(question.id, option.id)})</span>
+                        )}
                       </li>
                     ))}
                   </ul>
@@ -189,6 +264,14 @@ const AdminDashboard: React.FC = () => {
         ))}
       </div>
 
+      {nextCursor !== null && (
+        <div className="text-center mb-4">
+          <button className="btn btn-outline-primary" onClick={fetchMoreQuestions} disabled={loadingMore}>
+            {loadingMore ? 'Loading...' : 'Load more'}
+          </button>
+        </div>
+      )}
+
       {questions.length === 0 && (
         <div className="text-center py-5">
           <h4 className="text-muted">No questions found</h4>
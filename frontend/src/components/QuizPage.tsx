@@ -12,6 +12,7 @@ const QuizPage: React.FC = () => {
   const [submitting, setSubmitting] = useState<boolean>(false);
   const [error, setError] = useState<string>('');
   const [quizResult, setQuizResult] = useState<QuizResult | null>(null);
+  const [startToken, setStartToken] = useState<string>('');
 
   const { user, logout } = useAuth();
   const navigate = useNavigate();
@@ -24,7 +25,8 @@ const QuizPage: React.FC = () => {
     try {
       setLoading(true);
       const data = await quizAPI.startQuiz();
-      setQuestions(data);
+      setQuestions(data.questions);
+      setStartToken(data.startToken);
     } catch (err) {
       setError('Failed to fetch questions');
     } finally {
@@ -63,7 +65,8 @@ const QuizPage: React.FC = () => {
           answers: questions.map(question => ({
             questionId: question.id,
             selectedOptionId: answers.get(question.id) || null
-          }))
+          })),
+          startToken
         };
 
         const result = await quizAPI.submitQuiz(submissionData);
@@ -166,6 +169,11 @@ const QuizPage: React.FC = () => {
                     <p className="text-muted">Percentage</p>
                   </div>
                 </div>
+                {quizResult.percentile !== null && (
+                  <p className="text-center mb-0">
+                    You scored better than <strong>{quizResult.percentile}%</strong> of previous takers
+                  </p>
+                )}
               </div>
             </div>
 
@@ -2,11 +2,16 @@ import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import { scoreAPI } from '../services/api';
-import { Score } from '../types';
+import { Score, ScoreSummary } from '../types';
+
+const PAGE_SIZE = 20;
 
 const ScoresPage: React.FC = () => {
   const [scores, setScores] = useState<Score[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [summary, setSummary] = useState<ScoreSummary | null>(null);
   const [loading, setLoading] = useState<boolean>(true);
+  const [loadingMore, setLoadingMore] = useState<boolean>(false);
   const [error, setError] = useState<string>('');
 
   const { user, logout } = useAuth();
@@ -19,8 +24,13 @@ const ScoresPage: React.FC = () => {
   const fetchScores = async () => {
     try {
       setLoading(true);
-      const data = await scoreAPI.getUserScores();
-      setScores(data);
+      const [page, totals] = await Promise.all([
+        scoreAPI.getScorePage(null, PAGE_SIZE),
+        scoreAPI.getScoreSummary()
+      ]);
+      setScores(page.scores);
+      setNextCursor(page.nextCursor);
+      setSummary(totals);
     } catch (err) {
       setError('Failed to fetch scores');
     } finally {
@@ -28,6 +38,22 @@ const ScoresPage: React.FC = () => {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const page = await scoreAPI.getScorePage(nextCursor, PAGE_SIZE);
+      setScores(prev => [...prev, ...page.scores]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setError('Failed to fetch scores');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  const attemptCount = summary ? summary.attemptCount : scores.length;
+
   const formatDate = (dateString: string) => {
     return new Date(dateString).toLocaleDateString('en-US', {
       year: 'numeric',
@@ -141,7 +167,7 @@ const ScoresPage: React.FC = () => {
                         return (
                           <tr key={score.quizAttemptId}>
                             <td>
-                              <strong>#{scores.length - index}</strong>
+                              <strong>#{attemptCount - index}</strong>
                             </td>
                             <td>
                               <span className={`badge ${getGradeBadge(percentage)}`}>
@@ -173,6 +199,13 @@ const ScoresPage: React.FC = () => {
                 </div>
               </div>
             </div>
+            {nextCursor && (
+              <div className="text-center mt-3">
+                <button className="btn btn-outline-secondary" onClick={loadMore} disabled={loadingMore}>
+                  {loadingMore ? 'Loading...' : 'Load more'}
+                </button>
+              </div>
+            )}
           </div>
         </div>
       ) : (
@@ -195,36 +228,45 @@ const ScoresPage: React.FC = () => {
         </div>
       )}
 
-      {scores.length > 0 && (
+      {summary && summary.attemptCount > 0 && (
         <div className="row mt-4">
-          <div className="col-md-4">
+          <div className="col-md-3">
             <div className="card text-center">
               <div className="card-body">
                 <h5 className="card-title text-primary">Total Quizzes</h5>
-                <h2 className="text-primary">{scores.length}</h2>
+                <h2 className="text-primary">{summary.attemptCount}</h2>
               </div>
             </div>
           </div>
-          <div className="col-md-4">
+          <div className="col-md-3">
             <div className="card text-center">
               <div className="card-body">
                 <h5 className="card-title text-success">Average Score</h5>
                 <h2 className="text-success">
-                  {Math.round(scores.reduce((sum, score) => sum + calculatePercentage(score.score, score.totalQuestions), 0) / scores.length)}%
+                  {Math.round(summary.averagePercentage)}%
                 </h2>
               </div>
             </div>
           </div>
-          <div className="col-md-4">
+          <div className="col-md-3">
             <div className="card text-center">
               <div className="card-body">
                 <h5 className="card-title text-info">Best Score</h5>
                 <h2 className="text-info">
-                  {Math.max(...scores.map(score => calculatePercentage(score.score, score.totalQuestions)))}%
+                  {Math.round(summary.bestPercentage ?? 0)}%
                 </h2>
               </div>
             </div>
           </div>
+          <div className="col-md-3">
+            <div className="card text-center">
+              <div className="card-body">
+                <h5 className="card-title text-warning">Day Streak</h5>
+                <h2 className="text-warning">{summary.currentStreakDays}</h2>
+                <small className="text-muted">Longest: {summary.longestStreakDays}</small>
+              </div>
+            </div>
+          </div>
         </div>
       )}
     </div>
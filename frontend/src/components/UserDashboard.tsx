@@ -2,10 +2,16 @@ import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import { scoreAPI } from '../services/api';
-import { Score } from '../types';
+import { Leaderboard, Score } from '../types';
+
+const RECENT_ATTEMPTS = 10;
+const LEADERBOARD_SIZE = 10;
 
 const UserDashboard: React.FC = () => {
   const [scores, setScores] = useState<Score[]>([]);
+  const [attemptCount, setAttemptCount] = useState<number>(0);
+  const [hasMore, setHasMore] = useState<boolean>(false);
+  const [leaderboard, setLeaderboard] = useState<Leaderboard | null>(null);
   const [loading, setLoading] = useState<boolean>(true);
   const [error, setError] = useState<string>('');
 
@@ -19,8 +25,15 @@ const UserDashboard: React.FC = () => {
   const fetchScores = async () => {
     try {
       setLoading(true);
-      const data = await scoreAPI.getUserScores();
-      setScores(data);
+      const [page, summary, board] = await Promise.all([
+        scoreAPI.getScorePage(null, RECENT_ATTEMPTS),
+        scoreAPI.getScoreSummary(),
+        scoreAPI.getLeaderboard(LEADERBOARD_SIZE)
+      ]);
+      setScores(page.scores);
+      setHasMore(page.nextCursor !== null);
+      setAttemptCount(summary.attemptCount);
+      setLeaderboard(board);
     } catch (err) {
       setError('Failed to fetch scores');
     } finally {
@@ -129,6 +142,44 @@ const UserDashboard: React.FC = () => {
         </div>
       </div>
 
+      {/* Leaderboard */}
+      {leaderboard && leaderboard.top.length > 0 && (
+        <div className="card mb-4">
+          <div className="card-header d-flex justify-content-between align-items-center">
+            <h4 className="mb-0">Leaderboard</h4>
+            {leaderboard.me && (
+              <span className="text-muted">
+                Your rank: <strong>#{leaderboard.me.rank}</strong> of {leaderboard.totalPlayers}
+              </span>
+            )}
+          </div>
+          <div className="card-body">
+            <div className="table-responsive">
+              <table className="table table-sm">
+                <thead>
+                  <tr>
+                    <th>Rank</th>
+                    <th>Player</th>
+                    <th>Best Score</th>
+                    <th>Time</th>
+                  </tr>
+                </thead>
+                <tbody>
+                  {leaderboard.top.map(entry => (
+                    <tr key={entry.rank} className={entry.username === user?.username ? 'table-primary' : ''}>
+                      <td>#{entry.rank}</td>
+                      <td>{entry.username}</td>
+                      <td>{entry.score}/{entry.totalQuestions}</td>
+                      <td>{Math.round(entry.durationMillis / 1000)} s</td>
+                    </tr>
+                  ))}
+                </tbody>
+              </table>
+            </div>
+          </div>
+        </div>
+      )}
+
       {/* Past Scores */}
       <div className="card">
         <div className="card-header d-flex justify-content-between align-items-center">
@@ -153,7 +204,7 @@ const UserDashboard: React.FC = () => {
                 <tbody>
                   {scores.map((score, index) => (
                     <tr key={score.quizAttemptId}>
-                      <td>{scores.length - index}</td>
+                      <td>{attemptCount - index}</td>
                       <td>
                         <span className={`badge ${score.score === score.totalQuestions ? 'bg-success' : score.score >= score.totalQuestions * 0.7 ? 'bg-warning' : 'bg-danger'}`}>
                           {score.score}/{score.totalQuestions}
@@ -172,6 +223,13 @@ const UserDashboard: React.FC = () => {
                   ))}
                 </tbody>
               </table>
+              {hasMore && (
+                <div className="text-center">
+                  <button className="btn btn-link" onClick={() => navigate('/scores')}>
+                    View full history
+                  </button>
+                </div>
+              )}
             </div>
           ) : (
             <div className="text-center py-5">
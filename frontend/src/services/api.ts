@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { AuthRequest, AuthResponse, Question, QuestionRequest, QuizSubmissionRequest, QuizResult, Score } from '../types';
+import { AuthRequest, AuthResponse, Question, QuestionPage, QuestionRequest, QuizSubmissionRequest, QuizResult, QuizStart, Score, ScorePage, ScoreSummary, Leaderboard, QuestionAnalytics } from '../types';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
@@ -30,6 +30,9 @@ export const authAPI = {
 export const questionAPI = {
   getAllQuestions: (): Promise<Question[]> =>
     api.get('/questions').then(res => res.data),
+
+  getQuestionPage: (after?: number | null, size: number = 20, q?: string): Promise<QuestionPage> =>
+    api.get('/questions/page', { params: { after: after ?? undefined, size, q: q || undefined } }).then(res => res.data),
   
   getQuestionById: (id: number): Promise<Question> =>
     api.get(`/questions/${id}`).then(res => res.data),
@@ -45,8 +48,11 @@ export const questionAPI = {
 };
 
 export const quizAPI = {
-  startQuiz: (): Promise<Question[]> =>
-    api.get('/quiz/start').then(res => res.data),
+  startQuiz: (): Promise<QuizStart> =>
+    api.get('/quiz/start').then(res => ({
+      questions: res.data,
+      startToken: res.headers['x-quiz-start-token']
+    })),
   
   submitQuiz: (submission: QuizSubmissionRequest): Promise<QuizResult> =>
     api.post('/quiz/submit', submission).then(res => res.data),
@@ -55,6 +61,20 @@ export const quizAPI = {
 export const scoreAPI = {
   getUserScores: (): Promise<Score[]> =>
     api.get('/scores').then(res => res.data),
+
+  getScorePage: (cursor?: string | null, size: number = 20): Promise<ScorePage> =>
+    api.get('/scores/page', { params: { cursor: cursor ?? undefined, size } }).then(res => res.data),
+
+  getScoreSummary: (): Promise<ScoreSummary> =>
+    api.get('/scores/summary').then(res => res.data),
+
+  getLeaderboard: (limit: number = 10): Promise<Leaderboard> =>
+    api.get('/scores/leaderboard', { params: { limit } }).then(res => res.data),
+};
+
+export const analyticsAPI = {
+  getQuestionAnalytics: (): Promise<QuestionAnalytics[]> =>
+    api.get('/analytics/questions').then(res => res.data),
 };
 
 export default api;
@@ -28,11 +28,20 @@ export interface Question {
   id: number;
   questionText: string;
   options: Option[];
+  active?: boolean;
+  versionNumber?: number;
+}
+
+export interface QuestionPage {
+  questions: Question[];
+  nextCursor: number | null;
+  totalCount: number | null;
 }
 
 export interface QuestionRequest {
   questionText: string;
   options: {
+    id?: number;
     optionText: string;
     isCorrect: boolean;
   }[];
@@ -45,6 +54,12 @@ export interface AnswerSubmission {
 
 export interface QuizSubmissionRequest {
   answers: AnswerSubmission[];
+  startToken: string;
+}
+
+export interface QuizStart {
+  questions: Question[];
+  startToken: string;
 }
 
 export interface QuizResult {
@@ -52,6 +67,7 @@ export interface QuizResult {
   score: number;
   totalQuestions: number;
   endTime: string;
+  percentile: number | null;
   questionResults: QuestionResult[];
 }
 
@@ -76,3 +92,51 @@ export interface Score {
   startTime: string;
   endTime: string;
 }
+
+export interface ScorePage {
+  scores: Score[];
+  nextCursor: string | null;
+}
+
+export interface ScoreSummary {
+  attemptCount: number;
+  bestScore: number | null;
+  bestTotalQuestions: number | null;
+  bestPercentage: number | null;
+  averagePercentage: number;
+  lastAttemptAt: string | null;
+  currentStreakDays: number;
+  longestStreakDays: number;
+}
+
+export interface LeaderboardEntry {
+  rank: number;
+  username: string;
+  score: number;
+  totalQuestions: number;
+  durationMillis: number;
+  completedAt: string;
+}
+
+export interface Leaderboard {
+  top: LeaderboardEntry[];
+  me: LeaderboardEntry | null;
+  totalPlayers: number;
+}
+
+export interface OptionAnalytics {
+  optionId: number;
+  optionText: string;
+  isCorrect: boolean;
+  pickCount: number;
+  pickPercentage: number | null;
+}
+
+export interface QuestionAnalytics {
+  questionId: number;
+  questionText: string;
+  answeredCount: number;
+  correctCount: number;
+  percentCorrect: number | null;
+  options: OptionAnalytics[];
+}
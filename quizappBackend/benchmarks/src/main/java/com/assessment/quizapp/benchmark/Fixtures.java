@@ -0,0 +1,133 @@
+package com.assessment.quizapp.benchmark;
+
+import com.assessment.quizapp.dto.QuizSubmissionRequest;
+import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.Question;
+import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.repository.QuestionRepository;
+import com.assessment.quizapp.service.QuestionBankCache;
+import com.assessment.quizapp.util.JwtUtil;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory data shared by the benchmarks; nothing here touches a database.
+ */
+public final class Fixtures {
+
+    public static final String JWT_SECRET = "mySecretKeyThatIsLongEnoughForJWT256BitsSecurity";
+    public static final long JWT_EXPIRATION = 86_400_000L;
+    public static final int OPTIONS_PER_QUESTION = 4;
+
+    private Fixtures() {}
+
+    public static List<Question> questions(int count) {
+        List<Question> questions = new ArrayList<>(count);
+        long optionId = 1;
+        for (long questionId = 1; questionId <= count; questionId++) {
+            Question question = new Question("Benchmark question number " + questionId + "?");
+            question.setId(questionId);
+            List<Option> options = new ArrayList<>(OPTIONS_PER_QUESTION);
+            for (int i = 0; i < OPTIONS_PER_QUESTION; i++) {
+                Option option = new Option("Option " + i, i == 1);
+                option.setId(optionId++);
+                option.setQuestion(question);
+                options.add(option);
+            }
+            question.setOptions(options);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /**
+     * Answers every question, picking the correct option for every other one.
+     */
+    public static QuizSubmissionRequest submission(List<Question> questions) {
+        List<QuizSubmissionRequest.AnswerSubmission> answers = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            Question question = questions.get(i);
+            Option selected = question.getOptions().get(i % 2 == 0 ? 1 : 0);
+            answers.add(new QuizSubmissionRequest.AnswerSubmission(question.getId(), selected.getId()));
+        }
+        return new QuizSubmissionRequest(answers);
+    }
+
+    public static User user() {
+        User user = new User("benchmark", "benchmark@quiz.com", "unused", User.Role.USER);
+        user.setId(42L);
+        return user;
+    }
+
+    public static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", JWT_EXPIRATION);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    /**
+     * A question bank cache that reads from the given repository, with
+     * transactions stubbed out.
+     */
+    public static QuestionBankCache questionBankCache(QuestionRepository questionRepository) {
+        QuestionBankCache questionBankCache = new QuestionBankCache();
+        ReflectionTestUtils.setField(questionBankCache, "questionRepository", questionRepository);
+        ReflectionTestUtils.setField(questionBankCache, "transactionManager", noTransactions());
+        ReflectionTestUtils.setField(questionBankCache, "objectMapper", Jackson2ObjectMapperBuilder.json().build());
+        return questionBankCache;
+    }
+
+    /**
+     * Implements a repository or other interface with the given methods,
+     * keyed by name. Anything else throws, so a benchmark can't quietly
+     * depend on a call it didn't stub.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> implementation = methods.get(method.getName());
+            if (implementation != null) {
+                return implementation.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    /**
+     * Transaction manager for code that opens its own transactions; there is
+     * no database, so begin and commit do nothing.
+     */
+    public static AbstractPlatformTransactionManager noTransactions() {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {}
+        };
+    }
+}
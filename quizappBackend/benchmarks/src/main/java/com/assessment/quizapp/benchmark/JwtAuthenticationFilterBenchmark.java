@@ -0,0 +1,87 @@
+package com.assessment.quizapp.benchmark;
+
+import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.repository.UserRepository;
+import com.assessment.quizapp.security.JwtAuthenticationFilter;
+import com.assessment.quizapp.security.TokenVersionRegistry;
+import com.assessment.quizapp.security.VerifiedTokenCache;
+import com.assessment.quizapp.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling in the filter: {@code cachedToken} is a client reusing its
+ * bearer token, {@code uncachedToken} forces a full signature verification.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    private JwtAuthenticationFilter filter;
+    private VerifiedTokenCache verifiedTokenCache;
+    private MockHttpServletResponse response;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = Fixtures.jwtUtil();
+
+        verifiedTokenCache = new VerifiedTokenCache(10_000);
+
+        User user = Fixtures.user();
+        // Loaded once on the first request, then served from memory
+        TokenVersionRegistry tokenVersionRegistry = new TokenVersionRegistry();
+        ReflectionTestUtils.setField(tokenVersionRegistry, "userRepository", Fixtures.stub(UserRepository.class, Map.of(
+                "findTokenVersionById", args -> Optional.of(user.getTokenVersion()))));
+        ReflectionTestUtils.setField(tokenVersionRegistry, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(tokenVersionRegistry, "init");
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(filter, "tokenVersionRegistry", tokenVersionRegistry);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(filter, "init");
+
+        response = new MockHttpServletResponse();
+        authorizationHeader = "Bearer " + jwtUtil.generateToken(user);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        return authenticate();
+    }
+
+    @Benchmark
+    public Object uncachedToken() throws Exception {
+        verifiedTokenCache.clear();
+        return authenticate();
+    }
+
+    private Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/quiz/start");
+        request.addHeader("Authorization", authorizationHeader);
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,55 @@
+package com.assessment.quizapp.benchmark;
+
+import com.assessment.quizapp.dto.QuizResultResponse;
+import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.Question;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a graded result, using an ObjectMapper configured
+ * the way Spring Boot configures the one behind the REST controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizResultSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int questionCount;
+
+    private ObjectMapper objectMapper;
+    private QuizResultResponse result;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<QuizResultResponse.QuestionResult> questionResults = new ArrayList<>(questionCount);
+        for (Question question : Fixtures.questions(questionCount)) {
+            List<QuizResultResponse.QuestionResult.OptionResult> options = new ArrayList<>();
+            for (Option option : question.getOptions()) {
+                options.add(new QuizResultResponse.QuestionResult.OptionResult(
+                        option.getId(), option.getOptionText(), option.getIsCorrect()));
+            }
+            Long selected = question.getOptions().get(0).getId();
+            questionResults.add(new QuizResultResponse.QuestionResult(
+                    question.getId(), question.getQuestionText(), options, selected, false));
+        }
+        result = new QuizResultResponse(1L, 0, questionCount, LocalDateTime.now(), null, questionResults);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(result);
+    }
+}
@@ -0,0 +1,101 @@
+package com.assessment.quizapp.benchmark;
+
+import com.assessment.quizapp.dto.QuizResultResponse;
+import com.assessment.quizapp.dto.QuizSubmissionRequest;
+import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.Question;
+import com.assessment.quizapp.entity.QuizAttempt;
+import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.entity.UserScoreSummary;
+import com.assessment.quizapp.repository.*;
+import com.assessment.quizapp.security.JwtPrincipal;
+import com.assessment.quizapp.service.QuestionBankCache;
+import com.assessment.quizapp.service.QuizService;
+import com.assessment.quizapp.service.ScoreHistograms;
+import com.assessment.quizapp.service.ScoreSummaryService;
+import com.assessment.quizapp.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * submitQuiz with every repository stubbed out, so what is left is the
+ * in-memory work: checking the start token, validating and grading the
+ * answers against the answer key and assembling the per-question results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizSubmissionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int questionCount;
+
+    private QuizService quizService;
+    private QuizSubmissionRequest submission;
+
+    @Setup
+    public void setUp() {
+        List<Question> questions = Fixtures.questions(questionCount);
+        QuestionBankCache questionBankCache = Fixtures.questionBankCache(Fixtures.stub(QuestionRepository.class, Map.of(
+                "findAllWithOptions", args -> questions,
+                "getReferenceById", args -> new Question())));
+        questionBankCache.rebuild();
+
+        User user = Fixtures.user();
+        JwtUtil jwtUtil = Fixtures.jwtUtil();
+
+        ScoreSummaryService scoreSummaryService = new ScoreSummaryService();
+        ReflectionTestUtils.setField(scoreSummaryService, "userScoreSummaryRepository", Fixtures.stub(UserScoreSummaryRepository.class, Map.of(
+                "findByUserIdForUpdate", args -> Optional.of(new UserScoreSummary(user.getId())))));
+
+        quizService = new QuizService();
+        ReflectionTestUtils.setField(quizService, "questionRepository", Fixtures.stub(QuestionRepository.class, Map.of(
+                "getReferenceById", args -> new Question())));
+        ReflectionTestUtils.setField(quizService, "optionRepository", Fixtures.stub(OptionRepository.class, Map.of(
+                "getReferenceById", args -> new Option())));
+        ReflectionTestUtils.setField(quizService, "userRepository", Fixtures.stub(UserRepository.class, Map.of(
+                "getReferenceById", args -> user)));
+        ReflectionTestUtils.setField(quizService, "quizAttemptRepository", Fixtures.stub(QuizAttemptRepository.class, Map.of(
+                "save", args -> {
+                    QuizAttempt attempt = (QuizAttempt) args[0];
+                    attempt.setId(1L);
+                    return attempt;
+                })));
+        ReflectionTestUtils.setField(quizService, "userAnswerRepository", Fixtures.stub(UserAnswerRepository.class, Map.of(
+                "saveAll", args -> args[0],
+                "flush", args -> null)));
+        ReflectionTestUtils.setField(quizService, "questionBankCache", questionBankCache);
+        ReflectionTestUtils.setField(quizService, "scoreSummaryService", scoreSummaryService);
+        ReflectionTestUtils.setField(quizService, "scoreHistograms", new ScoreHistograms());
+        ReflectionTestUtils.setField(quizService, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        ReflectionTestUtils.setField(quizService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(quizService, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.invokeMethod(quizService, "init");
+
+        JwtPrincipal principal = new JwtPrincipal(user.getId(), user.getUsername(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+        submission = Fixtures.submission(questions);
+        Instant startedAt = Instant.now();
+        submission.setStartToken(jwtUtil.generateQuizStartToken(user.getId(), startedAt, startedAt.plus(Duration.ofDays(1))));
+    }
+
+    @Benchmark
+    public QuizResultResponse submitQuiz() {
+        return quizService.submitQuiz(submission);
+    }
+}
@@ -0,0 +1,74 @@
+package com.assessment.quizapp.benchmark;
+
+import com.assessment.quizapp.dto.QuestionResponse;
+import com.assessment.quizapp.entity.Question;
+import com.assessment.quizapp.repository.QuestionRepository;
+import com.assessment.quizapp.service.QuestionBankCache;
+import com.assessment.quizapp.service.QuestionBankSnapshot;
+import com.assessment.quizapp.service.QuestionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping through the services, with the repositories stubbed:
+ * the admin mapper behind getQuestionById, the quiz and review mappers for a
+ * single retired question, and a full snapshot rebuild over a 100-question
+ * bank including serializing and compressing the quiz payload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private QuestionService questionService;
+    private QuestionBankCache bankCache;
+    private QuestionBankCache emptyBankCache;
+    private Question question;
+    private List<Long> questionIds;
+    private LocalDateTime startedAt;
+
+    @Setup
+    public void setUp() {
+        List<Question> questions = Fixtures.questions(100);
+        question = questions.get(0);
+        questionIds = List.of(question.getId());
+        startedAt = LocalDateTime.now();
+
+        questionService = new QuestionService();
+        ReflectionTestUtils.setField(questionService, "questionRepository", Fixtures.stub(QuestionRepository.class, Map.of(
+                "findById", args -> Optional.of(question))));
+
+        bankCache = Fixtures.questionBankCache(Fixtures.stub(QuestionRepository.class, Map.of(
+                "findAllWithOptions", args -> questions)));
+
+        // Nothing is current, so every submitted id is mapped as a retired version
+        emptyBankCache = Fixtures.questionBankCache(Fixtures.stub(QuestionRepository.class, Map.of(
+                "findAllWithOptions", args -> List.of(),
+                "findRetiredWithOptionsByIdIn", args -> List.of(question))));
+        emptyBankCache.rebuild();
+    }
+
+    @Benchmark
+    public QuestionResponse getQuestionById() {
+        return questionService.getQuestionById(question.getId());
+    }
+
+    @Benchmark
+    public QuestionBankSnapshot mapRetiredQuestion() {
+        return emptyBankCache.getSnapshotFor(questionIds, startedAt);
+    }
+
+    @Benchmark
+    public QuestionBankSnapshot rebuild() {
+        return bankCache.rebuild();
+    }
+}
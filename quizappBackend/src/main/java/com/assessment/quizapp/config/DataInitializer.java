@@ -6,6 +6,7 @@ import com.assessment.quizapp.entity.User;
 import com.assessment.quizapp.repository.OptionRepository;
 import com.assessment.quizapp.repository.QuestionRepository;
 import com.assessment.quizapp.repository.UserRepository;
+import com.assessment.quizapp.service.ScoreSummaryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +27,9 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ScoreSummaryService scoreSummaryService;
+
     @Override
     public void run(String... args) throws Exception {
         // Create admin user
@@ -36,6 +40,7 @@ public class DataInitializer implements CommandLineRunner {
             admin.setPassword(passwordEncoder.encode("admin123"));
             admin.setRole(User.Role.ADMIN);
             userRepository.save(admin);
+            scoreSummaryService.createFor(admin.getId());
         }
 
         // Create sample user
@@ -46,6 +51,7 @@ public class DataInitializer implements CommandLineRunner {
             user.setPassword(passwordEncoder.encode("user123"));
             user.setRole(User.Role.USER);
             userRepository.save(user);
+            scoreSummaryService.createFor(user.getId());
         }
 
         // Create sample questions if none exist
@@ -0,0 +1,50 @@
+package com.assessment.quizapp.config;
+
+import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.Question;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Regions for Hibernate's second-level cache, held in an in-process
+ * Caffeine JCache manager. Every region is bounded; hit and miss counts are
+ * published per region through Hibernate statistics.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Bean
+    public CacheManager hibernateCacheManager(@Value("${cache.questions.max-entries:10000}") long maxQuestions,
+                                              @Value("${cache.options.max-entries:50000}") long maxOptions) {
+        // A manager of its own per application context, so test contexts never share entries
+        CacheManager cacheManager = Caching.getCachingProvider(CAFFEINE_PROVIDER)
+                .getCacheManager(URI.create("quizapp-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(Question.CACHE_REGION, bounded(maxQuestions));
+        cacheManager.createCache(Question.OPTIONS_CACHE_REGION, bounded(maxQuestions));
+        cacheManager.createCache(Option.CACHE_REGION, bounded(maxOptions));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        return configuration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.assessment.quizapp.controller;
+
+import com.assessment.quizapp.dto.QuestionAnalyticsResponse;
+import com.assessment.quizapp.service.AnswerAnalytics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private AnswerAnalytics answerAnalytics;
+
+    @GetMapping("/questions")
+    public ResponseEntity<List<QuestionAnalyticsResponse>> getQuestionAnalytics() {
+        try {
+            return ResponseEntity.ok(answerAnalytics.getQuestionAnalytics());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
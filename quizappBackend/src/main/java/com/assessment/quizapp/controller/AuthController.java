@@ -3,9 +3,12 @@ package com.assessment.quizapp.controller;
 import com.assessment.quizapp.dto.AuthRequest;
 import com.assessment.quizapp.dto.AuthResponse;
 import com.assessment.quizapp.dto.LoginRequest;
+import com.assessment.quizapp.security.HashingRejectedException;
 import com.assessment.quizapp.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,6 +26,10 @@ public class AuthController {
             AuthRequest authRequest = new AuthRequest(loginRequest.getUsername(), loginRequest.getPassword(), null);
             AuthResponse response = authService.login(authRequest);
             return ResponseEntity.ok(response);
+        } catch (HashingRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -33,6 +40,10 @@ public class AuthController {
         try {
             AuthResponse response = authService.signup(authRequest);
             return ResponseEntity.ok(response);
+        } catch (HashingRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -0,0 +1,36 @@
+package com.assessment.quizapp.controller;
+
+import com.assessment.quizapp.dto.PurgeTaskResponse;
+import com.assessment.quizapp.service.PurgeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/purge-tasks")
+@CrossOrigin(origins = "*")
+public class PurgeTaskController {
+
+    @Autowired
+    private PurgeService purgeService;
+
+    @GetMapping
+    public ResponseEntity<List<PurgeTaskResponse>> getRecentTasks() {
+        List<PurgeTaskResponse> tasks = purgeService.getRecentTasks().stream()
+                .map(PurgeTaskResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PurgeTaskResponse> getTask(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(new PurgeTaskResponse(purgeService.getTask(id)));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
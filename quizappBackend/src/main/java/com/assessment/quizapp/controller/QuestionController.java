@@ -1,13 +1,28 @@
 package com.assessment.quizapp.controller;
 
+import com.assessment.quizapp.dto.PurgeTaskResponse;
+import com.assessment.quizapp.dto.QuestionImportResponse;
+import com.assessment.quizapp.dto.QuestionPageResponse;
 import com.assessment.quizapp.dto.QuestionRequest;
 import com.assessment.quizapp.dto.QuestionResponse;
+import com.assessment.quizapp.service.QuestionBankSnapshot;
+import com.assessment.quizapp.service.QuestionImportService;
 import com.assessment.quizapp.service.QuestionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -15,20 +30,66 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class QuestionController {
 
+    // Clients may keep a copy but must revalidate it against the bank version
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private QuestionService questionService;
 
+    @Autowired
+    private QuestionImportService questionImportService;
+
     @GetMapping
-    public ResponseEntity<List<QuestionResponse>> getAllQuestions() {
+    public ResponseEntity<List<QuestionResponse>> getAllQuestions(WebRequest request) {
+        if (notModified(request)) {
+            return null;
+        }
         List<QuestionResponse> questions = questionService.getAllQuestions();
-        return ResponseEntity.ok(questions);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(questions);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<QuestionPageResponse> getQuestionPage(@RequestParam(required = false) Long after,
+                                                                @RequestParam(defaultValue = "20") int size,
+                                                                @RequestParam(required = false) String q,
+                                                                WebRequest request) {
+        if (notModified(request)) {
+            return null;
+        }
+        QuestionPageResponse page = questionService.getQuestionPage(after, size, q);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(page);
+    }
+
+    @GetMapping("/export")
+    public void exportQuestions(@RequestParam(required = false) Long after,
+                                HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"questions.ndjson\"");
+        questionService.exportQuestions(after, response.getOutputStream());
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<QuestionImportResponse> importQuestions(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                  HttpServletRequest request) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            QuestionImportResponse result = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                    ? questionImportService.importCsv(reader)
+                    : questionImportService.importNdjson(reader);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<QuestionResponse> getQuestionById(@PathVariable Long id) {
+    public ResponseEntity<QuestionResponse> getQuestionById(@PathVariable Long id, WebRequest request) {
+        if (notModified(request)) {
+            return null;
+        }
         try {
             QuestionResponse question = questionService.getQuestionById(id);
-            return ResponseEntity.ok(question);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(question);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
@@ -55,13 +116,30 @@ public class QuestionController {
         }
     }
 
+    /**
+     * Soft-deletes the question and queues its purge. The purge erases the
+     * question's whole history: every earlier version, their options and all
+     * answers recorded against them, so past attempts lose their review of
+     * it. Retire a question by editing it instead to keep that history.
+     */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteQuestion(@PathVariable Long id) {
+    public ResponseEntity<PurgeTaskResponse> deleteQuestion(@PathVariable Long id) {
         try {
-            questionService.deleteQuestion(id);
-            return ResponseEntity.ok().build();
+            PurgeTaskResponse task = new PurgeTaskResponse(questionService.deleteQuestion(id));
+            return ResponseEntity.accepted().body(task);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * Every read here is derived from the question bank, so the bank version
+     * serves as the entity tag. The tag is taken before the database is read;
+     * a write in between only makes the body newer than its tag, which costs
+     * the client one extra download later.
+     */
+    private boolean notModified(WebRequest request) {
+        QuestionBankSnapshot bank = questionService.getQuestionBank();
+        return request.checkNotModified(bank.getETag(), bank.getBuiltAt().toEpochMilli());
+    }
 }
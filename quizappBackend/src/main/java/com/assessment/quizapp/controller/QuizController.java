@@ -1,16 +1,19 @@
 package com.assessment.quizapp.controller;
 
-import com.assessment.quizapp.dto.QuestionResponse;
 import com.assessment.quizapp.dto.QuizResultResponse;
 import com.assessment.quizapp.dto.QuizSubmissionRequest;
 import com.assessment.quizapp.dto.ScoreResponse;
+import com.assessment.quizapp.service.QuestionBankSnapshot;
 import com.assessment.quizapp.service.QuizService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/quiz")
@@ -20,10 +23,33 @@ public class QuizController {
     @Autowired
     private QuizService quizService;
 
+    public static final String START_TOKEN_HEADER = "X-Quiz-Start-Token";
+
+    /**
+     * Writes the question list as prepared for the current bank version,
+     * gzipped when the client accepts it. A client that already holds that
+     * version gets a 304. Either way the response carries a fresh start
+     * token in {@link #START_TOKEN_HEADER} to send back on submit.
+     */
     @GetMapping("/start")
-    public ResponseEntity<List<QuestionResponse>> startQuiz() {
-        List<QuestionResponse> questions = quizService.startQuiz();
-        return ResponseEntity.ok(questions);
+    public ResponseEntity<byte[]> startQuiz(WebRequest request, HttpServletResponse response) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(START_TOKEN_HEADER, quizService.issueStartToken());
+
+        QuestionBankSnapshot bank = quizService.getQuestionBank();
+        String eTag = gzip ? bank.getGzipETag() : bank.getETag();
+        if (request.checkNotModified(eTag, bank.getBuiltAt().toEpochMilli())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(quizService.startQuiz(bank, gzip));
     }
 
     @PostMapping("/submit")
@@ -35,4 +61,24 @@ public class QuizController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = accepted;
+            } else if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        // An explicit gzip entry wins over the wildcard
+        return gzip != null ? gzip : wildcard;
+    }
 }
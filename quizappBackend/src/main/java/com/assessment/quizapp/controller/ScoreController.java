@@ -1,6 +1,9 @@
 package com.assessment.quizapp.controller;
 
+import com.assessment.quizapp.dto.LeaderboardResponse;
+import com.assessment.quizapp.dto.ScorePageResponse;
 import com.assessment.quizapp.dto.ScoreResponse;
+import com.assessment.quizapp.dto.ScoreSummaryResponse;
 import com.assessment.quizapp.service.QuizService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -25,4 +28,35 @@ public class ScoreController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @GetMapping("/page")
+    public ResponseEntity<ScorePageResponse> getScorePage(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        try {
+            ScorePageResponse page = quizService.getScorePage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<ScoreSummaryResponse> getSummary() {
+        try {
+            ScoreSummaryResponse summary = quizService.getScoreSummary();
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            LeaderboardResponse leaderboard = quizService.getLeaderboard(limit);
+            return ResponseEntity.ok(leaderboard);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
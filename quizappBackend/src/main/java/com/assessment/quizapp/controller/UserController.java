@@ -0,0 +1,40 @@
+package com.assessment.quizapp.controller;
+
+import com.assessment.quizapp.dto.PurgeTaskResponse;
+import com.assessment.quizapp.service.AuthService;
+import com.assessment.quizapp.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users")
+@CrossOrigin(origins = "*")
+public class UserController {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<PurgeTaskResponse> deleteUser(@PathVariable Long id) {
+        try {
+            PurgeTaskResponse task = new PurgeTaskResponse(userService.deleteUser(id));
+            return ResponseEntity.accepted().body(task);
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long id) {
+        try {
+            authService.revokeTokens(id);
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
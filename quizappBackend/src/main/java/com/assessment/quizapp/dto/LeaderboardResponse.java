@@ -0,0 +1,112 @@
+package com.assessment.quizapp.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class LeaderboardResponse {
+    private List<Entry> top;
+    // The caller's own standing; null until they have submitted a quiz
+    private Entry me;
+    private Integer totalPlayers;
+
+    public LeaderboardResponse() {}
+
+    public LeaderboardResponse(List<Entry> top, Entry me, Integer totalPlayers) {
+        this.top = top;
+        this.me = me;
+        this.totalPlayers = totalPlayers;
+    }
+
+    public List<Entry> getTop() {
+        return top;
+    }
+
+    public void setTop(List<Entry> top) {
+        this.top = top;
+    }
+
+    public Entry getMe() {
+        return me;
+    }
+
+    public void setMe(Entry me) {
+        this.me = me;
+    }
+
+    public Integer getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    public void setTotalPlayers(Integer totalPlayers) {
+        this.totalPlayers = totalPlayers;
+    }
+
+    public static class Entry {
+        private Integer rank;
+        private String username;
+        private Integer score;
+        private Integer totalQuestions;
+        private Long durationMillis;
+        private LocalDateTime completedAt;
+
+        public Entry() {}
+
+        public Entry(Integer rank, String username, Integer score, Integer totalQuestions,
+                     Long durationMillis, LocalDateTime completedAt) {
+            this.rank = rank;
+            this.username = username;
+            this.score = score;
+            this.totalQuestions = totalQuestions;
+            this.durationMillis = durationMillis;
+            this.completedAt = completedAt;
+        }
+
+        public Integer getRank() {
+            return rank;
+        }
+
+        public void setRank(Integer rank) {
+            this.rank = rank;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public Integer getTotalQuestions() {
+            return totalQuestions;
+        }
+
+        public void setTotalQuestions(Integer totalQuestions) {
+            this.totalQuestions = totalQuestions;
+        }
+
+        public Long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public void setDurationMillis(Long durationMillis) {
+            this.durationMillis = durationMillis;
+        }
+
+        public LocalDateTime getCompletedAt() {
+            return completedAt;
+        }
+
+        public void setCompletedAt(LocalDateTime completedAt) {
+            this.completedAt = completedAt;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.assessment.quizapp.dto;
+
+import com.assessment.quizapp.entity.PurgeTask;
+
+import java.time.LocalDateTime;
+
+public class PurgeTaskResponse {
+    private Long id;
+    private String targetType;
+    private Long targetId;
+    private String status;
+    private String phase;
+    private Long rowsDeleted;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public PurgeTaskResponse() {}
+
+    public PurgeTaskResponse(PurgeTask task) {
+        this.id = task.getId();
+        this.targetType = task.getTargetType().name();
+        this.targetId = task.getTargetId();
+        this.status = task.getStatus().name();
+        this.phase = task.getPhase();
+        this.rowsDeleted = task.getRowsDeleted();
+        this.lastError = task.getLastError();
+        this.createdAt = task.getCreatedAt();
+        this.updatedAt = task.getUpdatedAt();
+        this.completedAt = task.getCompletedAt();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(String targetType) {
+        this.targetType = targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public Long getRowsDeleted() {
+        return rowsDeleted;
+    }
+
+    public void setRowsDeleted(Long rowsDeleted) {
+        this.rowsDeleted = rowsDeleted;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
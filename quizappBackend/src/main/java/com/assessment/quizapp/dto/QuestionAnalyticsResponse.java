@@ -0,0 +1,136 @@
+package com.assessment.quizapp.dto;
+
+import java.util.List;
+
+public class QuestionAnalyticsResponse {
+    private Long questionId;
+    private String questionText;
+    private Long answeredCount;
+    private Long correctCount;
+    // Null until the question has been answered
+    private Double percentCorrect;
+    private List<OptionAnalytics> options;
+
+    public QuestionAnalyticsResponse() {}
+
+    public QuestionAnalyticsResponse(Long questionId, String questionText, long answeredCount, long correctCount,
+                                     List<OptionAnalytics> options) {
+        this.questionId = questionId;
+        this.questionText = questionText;
+        this.answeredCount = answeredCount;
+        this.correctCount = correctCount;
+        this.percentCorrect = percentageOf(correctCount, answeredCount);
+        this.options = options;
+    }
+
+    static Double percentageOf(long count, long total) {
+        return total > 0 ? count * 100.0 / total : null;
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    public String getQuestionText() {
+        return questionText;
+    }
+
+    public void setQuestionText(String questionText) {
+        this.questionText = questionText;
+    }
+
+    public Long getAnsweredCount() {
+        return answeredCount;
+    }
+
+    public void setAnsweredCount(Long answeredCount) {
+        this.answeredCount = answeredCount;
+    }
+
+    public Long getCorrectCount() {
+        return correctCount;
+    }
+
+    public void setCorrectCount(Long correctCount) {
+        this.correctCount = correctCount;
+    }
+
+    public Double getPercentCorrect() {
+        return percentCorrect;
+    }
+
+    public void setPercentCorrect(Double percentCorrect) {
+        this.percentCorrect = percentCorrect;
+    }
+
+    public List<OptionAnalytics> getOptions() {
+        return options;
+    }
+
+    public void setOptions(List<OptionAnalytics> options) {
+        this.options = options;
+    }
+
+    public static class OptionAnalytics {
+        private Long optionId;
+        private String optionText;
+        private Boolean isCorrect;
+        private Long pickCount;
+        // Share of all answers to the question, skipped ones included
+        private Double pickPercentage;
+
+        public OptionAnalytics() {}
+
+        public OptionAnalytics(Long optionId, String optionText, Boolean isCorrect, long pickCount, long answeredCount) {
+            this.optionId = optionId;
+            this.optionText = optionText;
+            this.isCorrect = isCorrect;
+            this.pickCount = pickCount;
+            this.pickPercentage = percentageOf(pickCount, answeredCount);
+        }
+
+        public Long getOptionId() {
+            return optionId;
+        }
+
+        public void setOptionId(Long optionId) {
+            this.optionId = optionId;
+        }
+
+        public String getOptionText() {
+            return optionText;
+        }
+
+        public void setOptionText(String optionText) {
+            this.optionText = optionText;
+        }
+
+        public Boolean getIsCorrect() {
+            return isCorrect;
+        }
+
+        public void setIsCorrect(Boolean isCorrect) {
+            this.isCorrect = isCorrect;
+        }
+
+        public Long getPickCount() {
+            return pickCount;
+        }
+
+        public void setPickCount(Long pickCount) {
+            this.pickCount = pickCount;
+        }
+
+        public Double getPickPercentage() {
+            return pickPercentage;
+        }
+
+        public void setPickPercentage(Double pickPercentage) {
+            this.pickPercentage = pickPercentage;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.assessment.quizapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QuestionImportResponse {
+    private int imported;
+    private int failed;
+    private List<RowError> errors = new ArrayList<>();
+    // Only the first errors are kept; failed still counts all of them
+    private boolean errorsTruncated;
+
+    public QuestionImportResponse() {}
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public static class RowError {
+        private int line;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public void setLine(int line) {
+            this.line = line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
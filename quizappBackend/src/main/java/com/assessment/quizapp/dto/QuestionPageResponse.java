@@ -0,0 +1,43 @@
+package com.assessment.quizapp.dto;
+
+import java.util.List;
+
+public class QuestionPageResponse {
+    private List<QuestionResponse> questions;
+    // Pass back as "after" to get the next page; null on the last page
+    private Long nextCursor;
+    // Active questions in the bank; null when the page is filtered
+    private Integer totalCount;
+
+    public QuestionPageResponse() {}
+
+    public QuestionPageResponse(List<QuestionResponse> questions, Long nextCursor, Integer totalCount) {
+        this.questions = questions;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+
+    public List<QuestionResponse> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<QuestionResponse> questions) {
+        this.questions = questions;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
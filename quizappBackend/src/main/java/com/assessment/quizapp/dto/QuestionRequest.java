@@ -35,6 +35,9 @@ public class QuestionRequest {
     }
 
     public static class OptionRequest {
+        // Set when editing an existing option; null for a new one
+        private Long id;
+
         @NotBlank
         @Size(min = 1, max = 200)
         private String optionText;
@@ -48,6 +51,14 @@ public class QuestionRequest {
             this.isCorrect = isCorrect;
         }
 
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
         public String getOptionText() {
             return optionText;
         }
@@ -1,11 +1,18 @@
 package com.assessment.quizapp.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public class QuestionResponse {
     private Long id;
     private String questionText;
     private List<OptionResponse> options;
+    // Only filled in for admin views; a retired version can still be fetched by id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean active;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer versionNumber;
 
     public QuestionResponse() {}
 
@@ -39,6 +46,22 @@ public class QuestionResponse {
         this.options = options;
     }
 
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
     public static class OptionResponse {
         private Long id;
         private String optionText;
@@ -8,16 +8,19 @@ public class QuizResultResponse {
     private Integer score;
     private Integer totalQuestions;
     private LocalDateTime endTime;
+    // Percentage of earlier takers of the same questions who scored lower; null for the first taker
+    private Integer percentile;
     private List<QuestionResult> questionResults;
 
     public QuizResultResponse() {}
 
     public QuizResultResponse(Long quizAttemptId, Integer score, Integer totalQuestions, 
-                             LocalDateTime endTime, List<QuestionResult> questionResults) {
+                             LocalDateTime endTime, Integer percentile, List<QuestionResult> questionResults) {
         this.quizAttemptId = quizAttemptId;
         this.score = score;
         this.totalQuestions = totalQuestions;
         this.endTime = endTime;
+        this.percentile = percentile;
         this.questionResults = questionResults;
     }
 
@@ -53,6 +56,14 @@ public class QuizResultResponse {
         this.endTime = endTime;
     }
 
+    public Integer getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(Integer percentile) {
+        this.percentile = percentile;
+    }
+
     public List<QuestionResult> getQuestionResults() {
         return questionResults;
     }
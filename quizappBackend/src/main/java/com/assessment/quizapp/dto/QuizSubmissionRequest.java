@@ -4,6 +4,8 @@ import java.util.List;
 
 public class QuizSubmissionRequest {
     private List<AnswerSubmission> answers;
+    // Token returned by /api/quiz/start; the attempt is timed from when it was issued
+    private String startToken;
 
     public QuizSubmissionRequest() {}
 
@@ -19,6 +21,14 @@ public class QuizSubmissionRequest {
         this.answers = answers;
     }
 
+    public String getStartToken() {
+        return startToken;
+    }
+
+    public void setStartToken(String startToken) {
+        this.startToken = startToken;
+    }
+
     public static class AnswerSubmission {
         private Long questionId;
         private Long selectedOptionId;
@@ -0,0 +1,32 @@
+package com.assessment.quizapp.dto;
+
+import java.util.List;
+
+public class ScorePageResponse {
+    private List<ScoreResponse> scores;
+    // Opaque; pass back as "cursor" to get the next (older) page; null on the last page
+    private String nextCursor;
+
+    public ScorePageResponse() {}
+
+    public ScorePageResponse(List<ScoreResponse> scores, String nextCursor) {
+        this.scores = scores;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ScoreResponse> getScores() {
+        return scores;
+    }
+
+    public void setScores(List<ScoreResponse> scores) {
+        this.scores = scores;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
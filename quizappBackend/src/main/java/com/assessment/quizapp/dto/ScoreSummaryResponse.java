@@ -0,0 +1,97 @@
+package com.assessment.quizapp.dto;
+
+import com.assessment.quizapp.entity.UserScoreSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ScoreSummaryResponse {
+    private Integer attemptCount;
+    private Integer bestScore;
+    private Integer bestTotalQuestions;
+    private Double bestPercentage;
+    private Double averagePercentage;
+    private LocalDateTime lastAttemptAt;
+    private Integer currentStreakDays;
+    private Integer longestStreakDays;
+
+    public ScoreSummaryResponse() {}
+
+    public ScoreSummaryResponse(UserScoreSummary summary, LocalDate today) {
+        this.attemptCount = summary.getAttemptCount();
+        this.bestScore = summary.getBestScore();
+        this.bestTotalQuestions = summary.getBestTotalQuestions();
+        this.bestPercentage = summary.getBestPercentage();
+        this.averagePercentage = summary.getMeanPercentage();
+        this.lastAttemptAt = summary.getLastAttemptAt();
+        // The stored streak only moves on submission; it has lapsed if a whole day went by without one
+        LocalDateTime last = summary.getLastAttemptAt();
+        boolean live = last != null && !last.toLocalDate().isBefore(today.minusDays(1));
+        this.currentStreakDays = live ? summary.getCurrentStreakDays() : 0;
+        this.longestStreakDays = summary.getLongestStreakDays();
+    }
+
+    public Integer getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(Integer attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    public Integer getBestScore() {
+        return bestScore;
+    }
+
+    public void setBestScore(Integer bestScore) {
+        this.bestScore = bestScore;
+    }
+
+    public Integer getBestTotalQuestions() {
+        return bestTotalQuestions;
+    }
+
+    public void setBestTotalQuestions(Integer bestTotalQuestions) {
+        this.bestTotalQuestions = bestTotalQuestions;
+    }
+
+    public Double getBestPercentage() {
+        return bestPercentage;
+    }
+
+    public void setBestPercentage(Double bestPercentage) {
+        this.bestPercentage = bestPercentage;
+    }
+
+    public Double getAveragePercentage() {
+        return averagePercentage;
+    }
+
+    public void setAveragePercentage(Double averagePercentage) {
+        this.averagePercentage = averagePercentage;
+    }
+
+    public LocalDateTime getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    public void setLastAttemptAt(LocalDateTime lastAttemptAt) {
+        this.lastAttemptAt = lastAttemptAt;
+    }
+
+    public Integer getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    public void setCurrentStreakDays(Integer currentStreakDays) {
+        this.currentStreakDays = currentStreakDays;
+    }
+
+    public Integer getLongestStreakDays() {
+        return longestStreakDays;
+    }
+
+    public void setLongestStreakDays(Integer longestStreakDays) {
+        this.longestStreakDays = longestStreakDays;
+    }
+}
@@ -3,12 +3,18 @@ package com.assessment.quizapp.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "options")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Option.CACHE_REGION)
 public class Option {
+    public static final String CACHE_REGION = "options";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "options_seq")
+    @SequenceGenerator(name = "options_seq", sequenceName = "options_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
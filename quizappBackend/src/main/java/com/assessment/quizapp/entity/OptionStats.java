@@ -0,0 +1,57 @@
+package com.assessment.quizapp.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * How many times an option has been picked. See {@link QuestionStats}.
+ */
+@Entity
+@Table(name = "option_stats", indexes = @Index(name = "idx_option_stats_question", columnList = "question_id"))
+public class OptionStats {
+    @Id
+    @Column(name = "option_id")
+    private Long optionId;
+
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    @Column(name = "pick_count", nullable = false)
+    private Long pickCount = 0L;
+
+    // Constructors
+    public OptionStats() {}
+
+    public OptionStats(Long optionId, Long questionId) {
+        this.optionId = optionId;
+        this.questionId = questionId;
+    }
+
+    public void add(long picks) {
+        pickCount += picks;
+    }
+
+    // Getters and Setters
+    public Long getOptionId() {
+        return optionId;
+    }
+
+    public void setOptionId(Long optionId) {
+        this.optionId = optionId;
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    public Long getPickCount() {
+        return pickCount;
+    }
+
+    public void setPickCount(Long pickCount) {
+        this.pickCount = pickCount;
+    }
+}
@@ -0,0 +1,168 @@
+package com.assessment.quizapp.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Background removal of a soft-deleted question or user and the rows that
+ * depend on it. Progress is recorded after every chunk.
+ */
+@Entity
+@Table(name = "purge_tasks")
+public class PurgeTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    // Table currently being purged
+    @Column(name = "phase")
+    private String phase;
+
+    @Column(name = "rows_deleted", nullable = false)
+    private Long rowsDeleted = 0L;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // Failed runs so far; each one pushes runAfter further back
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    // Not picked up before this; null once the task is done or has used up its retries
+    @Column(name = "run_after")
+    private LocalDateTime runAfter;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public PurgeTask() {}
+
+    public PurgeTask(TargetType targetType, Long targetId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(TargetType targetType) {
+        this.targetType = targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public Long getRowsDeleted() {
+        return rowsDeleted;
+    }
+
+    public void setRowsDeleted(Long rowsDeleted) {
+        this.rowsDeleted = rowsDeleted;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getRunAfter() {
+        return runAfter;
+    }
+
+    public void setRunAfter(LocalDateTime runAfter) {
+        this.runAfter = runAfter;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public enum TargetType {
+        QUESTION, USER
+    }
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+}
@@ -3,14 +3,27 @@ package com.assessment.quizapp.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * One version of a question. Versions are never modified once attempts may
+ * reference them: an edit retires the current version and inserts the next
+ * one, so past attempts keep pointing at exactly what was graded.
+ */
 @Entity
-@Table(name = "questions")
+@Table(name = "questions", indexes = @Index(name = "idx_questions_active", columnList = "active, id"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Question.CACHE_REGION)
 public class Question {
+    public static final String CACHE_REGION = "questions";
+    public static final String OPTIONS_CACHE_REGION = "question-options";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_seq")
+    @SequenceGenerator(name = "questions_seq", sequenceName = "questions_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -19,11 +32,32 @@ public class Question {
     private String questionText;
 
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OrderBy("id ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Question.OPTIONS_CACHE_REGION)
     private List<Option> options;
 
-    @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "question", fetch = FetchType.LAZY)
     private List<UserAnswer> userAnswers;
 
+    // The version this one replaced; null for the first version
+    @Column(name = "previous_version_id")
+    private Long previousVersionId;
+
+    @Column(name = "version_number", nullable = false)
+    private Integer versionNumber = 1;
+
+    // Only active versions are served to quizzes and admin listings
+    @Column(nullable = false)
+    private Boolean active = true;
+
+    // Set when an edit or delete retires this version
+    @Column(name = "retired_at")
+    private LocalDateTime retiredAt;
+
+    // Set when the question is deleted; the purger removes the rows afterwards
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // Constructors
     public Question() {}
 
@@ -63,4 +97,44 @@ public class Question {
     public void setUserAnswers(List<UserAnswer> userAnswers) {
         this.userAnswers = userAnswers;
     }
+
+    public Long getPreviousVersionId() {
+        return previousVersionId;
+    }
+
+    public void setPreviousVersionId(Long previousVersionId) {
+        this.previousVersionId = previousVersionId;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public LocalDateTime getRetiredAt() {
+        return retiredAt;
+    }
+
+    public void setRetiredAt(LocalDateTime retiredAt) {
+        this.retiredAt = retiredAt;
+    }
 }
@@ -0,0 +1,59 @@
+package com.assessment.quizapp.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Running answer totals for one question version. Written only by the
+ * analytics flusher, which adds the deltas counted in memory since its last
+ * run.
+ */
+@Entity
+@Table(name = "question_stats")
+public class QuestionStats {
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "answered_count", nullable = false)
+    private Long answeredCount = 0L;
+
+    @Column(name = "correct_count", nullable = false)
+    private Long correctCount = 0L;
+
+    // Constructors
+    public QuestionStats() {}
+
+    public QuestionStats(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    public void add(long answered, long correct) {
+        answeredCount += answered;
+        correctCount += correct;
+    }
+
+    // Getters and Setters
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    public Long getAnsweredCount() {
+        return answeredCount;
+    }
+
+    public void setAnsweredCount(Long answeredCount) {
+        this.answeredCount = answeredCount;
+    }
+
+    public Long getCorrectCount() {
+        return correctCount;
+    }
+
+    public void setCorrectCount(Long correctCount) {
+        this.correctCount = correctCount;
+    }
+}
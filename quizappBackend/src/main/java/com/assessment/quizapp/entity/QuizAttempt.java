@@ -5,10 +5,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "quiz_attempts")
+// Covers the score history query: seek by user and (start_time, id), read the rest from the index
+@Table(name = "quiz_attempts", indexes = {
+        @Index(name = "idx_quiz_attempts_user_history",
+                columnList = "user_id, start_time, id, score, total_questions, end_time"),
+        @Index(name = "idx_quiz_attempts_histogram_recorded", columnList = "histogram_recorded")})
 public class QuizAttempt {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_attempts_seq")
+    @SequenceGenerator(name = "quiz_attempts_seq", sequenceName = "quiz_attempts_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -27,6 +32,14 @@ public class QuizAttempt {
     @Column(name = "total_questions")
     private Integer totalQuestions;
 
+    // Identifies the exact set of questions answered; attempts are only ranked against the same set
+    @Column(name = "question_set", length = 32)
+    private String questionSet;
+
+    // Set in the same transaction that adds this attempt to score_histograms
+    @Column(name = "histogram_recorded", nullable = false)
+    private Boolean histogramRecorded = false;
+
     @OneToMany(mappedBy = "quizAttempt", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<UserAnswer> userAnswers;
 
@@ -87,6 +100,22 @@ public class QuizAttempt {
         this.totalQuestions = totalQuestions;
     }
 
+    public String getQuestionSet() {
+        return questionSet;
+    }
+
+    public void setQuestionSet(String questionSet) {
+        this.questionSet = questionSet;
+    }
+
+    public Boolean getHistogramRecorded() {
+        return histogramRecorded;
+    }
+
+    public void setHistogramRecorded(Boolean histogramRecorded) {
+        this.histogramRecorded = histogramRecorded;
+    }
+
     public List<UserAnswer> getUserAnswers() {
         return userAnswers;
     }
@@ -0,0 +1,79 @@
+package com.assessment.quizapp.entity;
+
+import jakarta.persistence.*;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Running score distribution for one question set. Written only by the
+ * histogram flusher, which adds the attempts counted in memory since its
+ * last run; read back on startup.
+ */
+@Entity
+@Table(name = "score_histograms")
+public class ScoreHistogram {
+    @Id
+    @Column(name = "question_set", length = 32)
+    private String questionSet;
+
+    // Comma-separated attempt counts, one per percentage point from 0 to 100
+    @Column(name = "bucket_counts", nullable = false, length = 4000)
+    private String bucketCounts;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Long attemptCount;
+
+    // Constructors
+    public ScoreHistogram() {}
+
+    public ScoreHistogram(String questionSet, int buckets) {
+        this.questionSet = questionSet;
+        setCounts(new long[buckets]);
+    }
+
+    public long[] getCounts() {
+        return Arrays.stream(bucketCounts.split(",")).mapToLong(Long::parseLong).toArray();
+    }
+
+    public void setCounts(long[] counts) {
+        this.bucketCounts = Arrays.stream(counts).mapToObj(Long::toString).collect(Collectors.joining(","));
+        this.attemptCount = Arrays.stream(counts).sum();
+    }
+
+    public void add(long[] deltas) {
+        long[] counts = getCounts();
+        if (counts.length < deltas.length) {
+            counts = Arrays.copyOf(counts, deltas.length);
+        }
+        for (int i = 0; i < deltas.length; i++) {
+            counts[i] += deltas[i];
+        }
+        setCounts(counts);
+    }
+
+    // Getters and Setters
+    public String getQuestionSet() {
+        return questionSet;
+    }
+
+    public void setQuestionSet(String questionSet) {
+        this.questionSet = questionSet;
+    }
+
+    public String getBucketCounts() {
+        return bucketCounts;
+    }
+
+    public void setBucketCounts(String bucketCounts) {
+        this.bucketCounts = bucketCounts;
+    }
+
+    public Long getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(Long attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -31,9 +32,16 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role = Role.USER;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<QuizAttempt> quizAttempts;
 
+    // Set when the user is deleted; the purger removes the rows afterwards
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // Constructors
     public User() {}
 
@@ -85,6 +93,14 @@ public class User {
         this.role = role;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public List<QuizAttempt> getQuizAttempts() {
         return quizAttempts;
     }
@@ -93,6 +109,14 @@ public class User {
         this.quizAttempts = quizAttempts;
     }
 
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public enum Role {
         USER, ADMIN
     }
@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 @Table(name = "user_answers")
 public class UserAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_answers_seq")
+    @SequenceGenerator(name = "user_answers_seq", sequenceName = "user_answers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,6 +35,13 @@ public class UserAnswer {
         this.isCorrect = selectedOption != null ? selectedOption.getIsCorrect() : false;
     }
 
+    public UserAnswer(QuizAttempt quizAttempt, Question question, Option selectedOption, Boolean isCorrect) {
+        this.quizAttempt = quizAttempt;
+        this.question = question;
+        this.selectedOption = selectedOption;
+        this.isCorrect = isCorrect;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,156 @@
+package com.assessment.quizapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user totals behind the score dashboard. Maintained from each new
+ * attempt as it is saved, never recomputed from quiz_attempts.
+ */
+@Entity
+@Table(name = "user_score_summaries")
+public class UserScoreSummary {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    @Column(name = "best_score")
+    private Integer bestScore;
+
+    @Column(name = "best_total_questions")
+    private Integer bestTotalQuestions;
+
+    @Column(name = "best_percentage")
+    private Double bestPercentage;
+
+    @Column(name = "mean_percentage", nullable = false)
+    private Double meanPercentage = 0.0;
+
+    @Column(name = "last_attempt_at")
+    private LocalDateTime lastAttemptAt;
+
+    // Consecutive days with at least one attempt
+    @Column(name = "current_streak_days", nullable = false)
+    private Integer currentStreakDays = 0;
+
+    @Column(name = "longest_streak_days", nullable = false)
+    private Integer longestStreakDays = 0;
+
+    // Constructors
+    public UserScoreSummary() {}
+
+    public UserScoreSummary(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Folds one new attempt into the totals.
+     */
+    public void recordAttempt(int score, int totalQuestions, LocalDateTime completedAt) {
+        double percentage = totalQuestions > 0 ? score * 100.0 / totalQuestions : 0.0;
+
+        attemptCount++;
+        meanPercentage += (percentage - meanPercentage) / attemptCount;
+
+        if (bestPercentage == null || percentage > bestPercentage) {
+            bestScore = score;
+            bestTotalQuestions = totalQuestions;
+            bestPercentage = percentage;
+        }
+
+        LocalDate day = completedAt.toLocalDate();
+        if (lastAttemptAt == null) {
+            currentStreakDays = 1;
+        } else {
+            LocalDate lastDay = lastAttemptAt.toLocalDate();
+            if (day.equals(lastDay.plusDays(1))) {
+                currentStreakDays++;
+            } else if (day.isAfter(lastDay)) {
+                currentStreakDays = 1;
+            }
+        }
+        longestStreakDays = Math.max(longestStreakDays, currentStreakDays);
+
+        if (lastAttemptAt == null || completedAt.isAfter(lastAttemptAt)) {
+            lastAttemptAt = completedAt;
+        }
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Integer getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(Integer attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    public Integer getBestScore() {
+        return bestScore;
+    }
+
+    public void setBestScore(Integer bestScore) {
+        this.bestScore = bestScore;
+    }
+
+    public Integer getBestTotalQuestions() {
+        return bestTotalQuestions;
+    }
+
+    public void setBestTotalQuestions(Integer bestTotalQuestions) {
+        this.bestTotalQuestions = bestTotalQuestions;
+    }
+
+    public Double getBestPercentage() {
+        return bestPercentage;
+    }
+
+    public void setBestPercentage(Double bestPercentage) {
+        this.bestPercentage = bestPercentage;
+    }
+
+    public Double getMeanPercentage() {
+        return meanPercentage;
+    }
+
+    public void setMeanPercentage(Double meanPercentage) {
+        this.meanPercentage = meanPercentage;
+    }
+
+    public LocalDateTime getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    public void setLastAttemptAt(LocalDateTime lastAttemptAt) {
+        this.lastAttemptAt = lastAttemptAt;
+    }
+
+    public Integer getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    public void setCurrentStreakDays(Integer currentStreakDays) {
+        this.currentStreakDays = currentStreakDays;
+    }
+
+    public Integer getLongestStreakDays() {
+        return longestStreakDays;
+    }
+
+    public void setLongestStreakDays(Integer longestStreakDays) {
+        this.longestStreakDays = longestStreakDays;
+    }
+}
@@ -0,0 +1,39 @@
+package com.assessment.quizapp.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A Micrometer timer that also reports each recording as a
+ * {@code Server-Timing} entry for the current request.
+ */
+public final class PhaseTimer {
+    private final Timer timer;
+    private final String serverTimingName;
+
+    private PhaseTimer(Timer timer, String serverTimingName) {
+        this.timer = timer;
+        this.serverTimingName = serverTimingName;
+    }
+
+    public static PhaseTimer of(MeterRegistry registry, String serverTimingName, String metricName, String... tags) {
+        return new PhaseTimer(Timer.builder(metricName).tags(tags).register(registry), serverTimingName);
+    }
+
+    public void record(long nanos) {
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        ServerTiming.record(serverTimingName, nanos);
+    }
+
+    public <T> T record(Supplier<T> work) {
+        long startedAt = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(System.nanoTime() - startedAt);
+        }
+    }
+}
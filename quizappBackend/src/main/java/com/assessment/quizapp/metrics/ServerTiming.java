@@ -0,0 +1,65 @@
+package com.assessment.quizapp.metrics;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects phase durations for the current request so they can be sent back
+ * in a {@code Server-Timing} header. Calls outside a request are ignored.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final String TIMINGS_ATTRIBUTE = ServerTiming.class.getName() + ".timings";
+    private static final String START_ATTRIBUTE = ServerTiming.class.getName() + ".start";
+
+    private ServerTiming() {}
+
+    public static void record(String name, long nanos) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Long> timings = (Map<String, Long>) attributes.getAttribute(TIMINGS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timings == null) {
+            timings = new LinkedHashMap<>();
+            attributes.setAttribute(TIMINGS_ATTRIBUTE, timings, RequestAttributes.SCOPE_REQUEST);
+        }
+        timings.merge(name, nanos, Long::sum);
+    }
+
+    static void start(RequestAttributes attributes) {
+        attributes.setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Builds the header value from the recorded phases plus an {@code app}
+     * entry covering the request so far.
+     */
+    static String headerValue(RequestAttributes attributes) {
+        StringBuilder header = new StringBuilder();
+        @SuppressWarnings("unchecked")
+        Map<String, Long> timings = (Map<String, Long>) attributes.getAttribute(TIMINGS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timings != null) {
+            timings.forEach((name, nanos) -> append(header, name, nanos));
+        }
+        Long startedAt = (Long) attributes.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (startedAt != null) {
+            append(header, "app", System.nanoTime() - startedAt);
+        }
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+    }
+}
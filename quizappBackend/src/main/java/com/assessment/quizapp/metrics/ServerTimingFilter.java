@@ -0,0 +1,44 @@
+package com.assessment.quizapp.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Starts the request clock for {@link ServerTiming} and writes the header
+ * for responses without a body; responses with a body get it from
+ * {@link ServerTimingResponseAdvice} before the body is written.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        ServerTiming.start(attributes);
+        try {
+            filterChain.doFilter(request, response);
+            if (!response.isCommitted() && !response.containsHeader(ServerTiming.HEADER)) {
+                response.setHeader(ServerTiming.HEADER, ServerTiming.headerValue(attributes));
+            }
+        } finally {
+            // As RequestContextFilter does: run destruction callbacks and flush session updates
+            attributes.requestCompleted();
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+}
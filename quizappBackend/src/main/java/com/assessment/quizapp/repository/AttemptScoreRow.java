@@ -0,0 +1,8 @@
+package com.assessment.quizapp.repository;
+
+/**
+ * One attempt's score, read on startup to replay attempts the score
+ * histograms have not recorded yet.
+ */
+public record AttemptScoreRow(Long attemptId, String questionSet, Integer score, Integer totalQuestions) {
+}
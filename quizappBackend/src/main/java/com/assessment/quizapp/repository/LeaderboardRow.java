@@ -0,0 +1,10 @@
+package com.assessment.quizapp.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One attempt as read when rebuilding the leaderboard.
+ */
+public record LeaderboardRow(Long userId, String username, Integer score, Integer totalQuestions,
+                             LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -12,8 +12,10 @@ import java.util.List;
 @Repository
 public interface OptionRepository extends JpaRepository<Option, Long> {
     List<Option> findByQuestionId(Long questionId);
-    
+
+    // Bulk JPQL deletes bypass the entity cache; Hibernate invalidates the option and
+    // question-options regions for them, which PurgeService relies on
     @Modifying
-    @Query("DELETE FROM Option o WHERE o.question.id = :questionId")
-    void deleteByQuestionId(@Param("questionId") Long questionId);
+    @Query("DELETE FROM Option o WHERE o.question.id IN :questionIds")
+    int deleteByQuestionIdIn(@Param("questionIds") List<Long> questionIds);
 }
@@ -0,0 +1,28 @@
+package com.assessment.quizapp.repository;
+
+import com.assessment.quizapp.entity.OptionStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OptionStatsRepository extends JpaRepository<OptionStats, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OptionStats s WHERE s.optionId IN :optionIds")
+    List<OptionStats> findForUpdate(@Param("optionIds") Collection<Long> optionIds);
+
+    // Joined rather than passed the bank's ids, so the statement does not grow with the bank
+    @Query("SELECT s FROM OptionStats s JOIN Question q ON q.id = s.questionId WHERE q.active = true")
+    List<OptionStats> findForActiveQuestions();
+
+    @Modifying
+    @Query("DELETE FROM OptionStats s WHERE s.questionId IN :questionIds")
+    int deleteByQuestionIdIn(@Param("questionIds") List<Long> questionIds);
+}
@@ -0,0 +1,15 @@
+package com.assessment.quizapp.repository;
+
+import com.assessment.quizapp.entity.PurgeTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PurgeTaskRepository extends JpaRepository<PurgeTask, Long> {
+    List<PurgeTask> findByStatusInAndRunAfterLessThanEqualOrderByIdAsc(Collection<PurgeTask.Status> statuses, LocalDateTime now);
+    List<PurgeTask> findTop50ByOrderByIdDesc();
+}
@@ -0,0 +1,9 @@
+package com.assessment.quizapp.repository;
+
+/**
+ * One question/option pair as read by the export query. Options are null for
+ * questions without any.
+ */
+public record QuestionExportRow(Long questionId, String questionText,
+                                Long optionId, String optionText, Boolean isCorrect) {
+}
@@ -1,9 +1,61 @@
 package com.assessment.quizapp.repository;
 
 import com.assessment.quizapp.entity.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+    @Query("SELECT q FROM Question q LEFT JOIN FETCH q.options WHERE q.active = true ORDER BY q.id")
+    List<Question> findAllWithOptions();
+
+    @Query("SELECT q.id FROM Question q WHERE q.active = true AND q.id > :after ORDER BY q.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
+
+    @Query("SELECT q.id FROM Question q WHERE q.active = true AND q.id > :after AND LOWER(q.questionText) LIKE :pattern ESCAPE '\\' ORDER BY q.id")
+    List<Long> findIdsAfterMatching(@Param("after") Long after, @Param("pattern") String pattern, Limit limit);
+
+    @Query("SELECT q FROM Question q LEFT JOIN FETCH q.options WHERE q.id IN :ids ORDER BY q.id")
+    List<Question> findAllWithOptionsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Versions among the given ids that were replaced by an edit at or after
+     * the given time. Deleted questions are excluded.
+     */
+    @Query("SELECT q FROM Question q LEFT JOIN FETCH q.options WHERE q.id IN :ids " +
+           "AND q.active = false AND q.deletedAt IS NULL AND q.retiredAt >= :retiredSince")
+    List<Question> findRetiredWithOptionsByIdIn(@Param("ids") List<Long> ids, @Param("retiredSince") LocalDateTime retiredSince);
+
+    /**
+     * Forward-only cursor over every active question/option pair after the
+     * given question id. Rows are projections, so nothing accumulates in the
+     * persistence context. Must be consumed inside a transaction.
+     */
+    @Query("SELECT new com.assessment.quizapp.repository.QuestionExportRow(q.id, q.questionText, o.id, o.optionText, o.isCorrect) " +
+           "FROM Question q LEFT JOIN q.options o WHERE q.active = true AND q.id > :after ORDER BY q.id, o.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<QuestionExportRow> streamForExport(@Param("after") Long after);
+
+    @Query("SELECT q.previousVersionId FROM Question q WHERE q.id = :id")
+    Optional<Long> findPreviousVersionId(@Param("id") Long id);
+
+    // Bulk JPQL deletes bypass the entity cache; Hibernate invalidates the affected regions for them
+    @Modifying
+    @Query("DELETE FROM Question q WHERE q.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
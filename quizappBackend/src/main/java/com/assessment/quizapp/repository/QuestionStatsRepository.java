@@ -0,0 +1,29 @@
+package com.assessment.quizapp.repository;
+
+import com.assessment.quizapp.entity.QuestionStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface QuestionStatsRepository extends JpaRepository<QuestionStats, Long> {
+    // Locked so flushes from several app instances add their deltas one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuestionStats s WHERE s.questionId IN :questionIds")
+    List<QuestionStats> findForUpdate(@Param("questionIds") Collection<Long> questionIds);
+
+    // Joined rather than passed the bank's ids, so the statement does not grow with the bank
+    @Query("SELECT s FROM QuestionStats s JOIN Question q ON q.id = s.questionId WHERE q.active = true")
+    List<QuestionStats> findForActiveQuestions();
+
+    @Modifying
+    @Query("DELETE FROM QuestionStats s WHERE s.questionId IN :questionIds")
+    int deleteByQuestionIdIn(@Param("questionIds") List<Long> questionIds);
+}
@@ -1,12 +1,67 @@
 package com.assessment.quizapp.repository;
 
+import com.assessment.quizapp.dto.ScoreResponse;
 import com.assessment.quizapp.entity.QuizAttempt;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long> {
-    List<QuizAttempt> findByUserIdOrderByStartTimeDesc(Long userId);
+    // Score history, newest first. Projections straight from idx_quiz_attempts_user_history;
+    // neither QuizAttempt nor User is loaded
+    @Query("SELECT new com.assessment.quizapp.dto.ScoreResponse(qa.id, qa.score, qa.totalQuestions, qa.startTime, qa.endTime) " +
+           "FROM QuizAttempt qa WHERE qa.user.id = :userId ORDER BY qa.startTime DESC, qa.id DESC")
+    List<ScoreResponse> findScoresByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT new com.assessment.quizapp.dto.ScoreResponse(qa.id, qa.score, qa.totalQuestions, qa.startTime, qa.endTime) " +
+           "FROM QuizAttempt qa WHERE qa.user.id = :userId " +
+           "AND (qa.startTime < :startTime OR (qa.startTime = :startTime AND qa.id < :id)) " +
+           "ORDER BY qa.startTime DESC, qa.id DESC")
+    List<ScoreResponse> findScoresByUserIdBefore(@Param("userId") Long userId, @Param("startTime") LocalDateTime startTime,
+                                                 @Param("id") Long id, Limit limit);
+
+    /**
+     * Every attempt by a user who has not been deleted, for rebuilding the
+     * leaderboard. Must be consumed inside a transaction.
+     */
+    @Query("SELECT new com.assessment.quizapp.repository.LeaderboardRow(u.id, u.username, qa.score, qa.totalQuestions, qa.startTime, qa.endTime) " +
+           "FROM QuizAttempt qa JOIN qa.user u WHERE u.deletedAt IS NULL")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<LeaderboardRow> streamForLeaderboard();
+
+    @Query("SELECT new com.assessment.quizapp.repository.AttemptScoreRow(qa.id, qa.questionSet, qa.score, qa.totalQuestions) " +
+            "FROM QuizAttempt qa WHERE qa.histogramRecorded = false AND qa.questionSet IS NOT NULL")
+    List<AttemptScoreRow> findUnrecordedScores();
+
+    // Locked so two app instances can't both add the same attempt to the histograms
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT qa.id FROM QuizAttempt qa WHERE qa.id IN :ids AND qa.histogramRecorded = false")
+    List<Long> findUnrecordedIdsForUpdate(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE QuizAttempt qa SET qa.histogramRecorded = true WHERE qa.id IN :ids")
+    int markHistogramRecorded(@Param("ids") List<Long> ids);
+
+    @Query("SELECT qa.id FROM QuizAttempt qa WHERE qa.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM QuizAttempt qa WHERE qa.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
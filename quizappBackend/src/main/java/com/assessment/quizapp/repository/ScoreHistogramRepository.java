@@ -0,0 +1,20 @@
+package com.assessment.quizapp.repository;
+
+import com.assessment.quizapp.entity.ScoreHistogram;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ScoreHistogramRepository extends JpaRepository<ScoreHistogram, String> {
+    // Locked so flushes from several app instances add their deltas one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM ScoreHistogram h WHERE h.questionSet IN :questionSets")
+    List<ScoreHistogram> findForUpdate(@Param("questionSets") Collection<String> questionSets);
+}
@@ -1,7 +1,11 @@
 package com.assessment.quizapp.repository;
 
 import com.assessment.quizapp.entity.UserAnswer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +14,18 @@ import java.util.List;
 public interface UserAnswerRepository extends JpaRepository<UserAnswer, Long> {
     List<UserAnswer> findByQuizAttemptId(Long quizAttemptId);
     UserAnswer findByQuizAttemptIdAndQuestionId(Long quizAttemptId, Long questionId);
+
+    @Query("SELECT ua.id FROM UserAnswer ua WHERE ua.question.id IN :questionIds")
+    List<Long> findIdsByQuestionIdIn(@Param("questionIds") List<Long> questionIds, Limit limit);
+
+    @Query("SELECT ua.id FROM UserAnswer ua WHERE ua.quizAttempt.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM UserAnswer ua WHERE ua.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM UserAnswer ua WHERE ua.question.id IN :questionIds")
+    int deleteByQuestionIdIn(@Param("questionIds") List<Long> questionIds);
 }
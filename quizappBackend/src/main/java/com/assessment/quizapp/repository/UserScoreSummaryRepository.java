@@ -0,0 +1,24 @@
+package com.assessment.quizapp.repository;
+
+import com.assessment.quizapp.entity.UserScoreSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserScoreSummaryRepository extends JpaRepository<UserScoreSummary, Long> {
+    // Row lock held until the submitting transaction commits, so concurrent submissions apply one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserScoreSummary s WHERE s.userId = :userId")
+    Optional<UserScoreSummary> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserScoreSummary s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
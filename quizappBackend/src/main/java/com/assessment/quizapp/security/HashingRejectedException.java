@@ -0,0 +1,7 @@
+package com.assessment.quizapp.security;
+
+public class HashingRejectedException extends RuntimeException {
+    public HashingRejectedException(String message) {
+        super(message);
+    }
+}
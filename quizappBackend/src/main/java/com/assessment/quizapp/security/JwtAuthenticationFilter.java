@@ -1,29 +1,62 @@
 package com.assessment.quizapp.security;
 
+import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.metrics.PhaseTimer;
 import com.assessment.quizapp.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Map<User.Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(User.Role.class);
+
+    static {
+        for (User.Role role : User.Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
     @Autowired
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private PhaseTimer cachedTimer;
+    private PhaseTimer verifiedTimer;
+    private PhaseTimer rejectedTimer;
+
+    @PostConstruct
+    void init() {
+        cachedTimer = PhaseTimer.of(meterRegistry, "jwt", "quizapp.jwt.verification", "result", "cached");
+        verifiedTimer = PhaseTimer.of(meterRegistry, "jwt", "quizapp.jwt.verification", "result", "verified");
+        rejectedTimer = PhaseTimer.of(meterRegistry, "jwt", "quizapp.jwt.verification", "result", "rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -31,28 +64,58 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        JwtPrincipal principal = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                username = jwtUtil.getUsernameFromToken(jwt);
-            } catch (Exception e) {
-                logger.error("Unable to get JWT Token or JWT Token has expired");
+            Claims claims = verifyToken(authorizationHeader.substring(7));
+            if (claims != null) {
+                principal = toPrincipal(claims);
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(jwt)) {
-                UsernamePasswordAuthenticationToken authToken = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authToken = 
+                new UsernamePasswordAuthenticationToken(principal, null, AUTHORITIES.get(principal.role()));
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
         filterChain.doFilter(request, response);
     }
+
+    private Claims verifyToken(String jwt) {
+        long startedAt = System.nanoTime();
+        Claims claims = verifiedTokenCache.get(jwt);
+        if (claims != null) {
+            cachedTimer.record(System.nanoTime() - startedAt);
+            return claims;
+        }
+        try {
+            claims = jwtUtil.parseClaims(jwt);
+        } catch (Exception e) {
+            rejectedTimer.record(System.nanoTime() - startedAt);
+            logger.error("Unable to get JWT Token or JWT Token has expired");
+            return null;
+        }
+        verifiedTokenCache.put(jwt, claims);
+        verifiedTimer.record(System.nanoTime() - startedAt);
+        return claims;
+    }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        Number userId = claims.get(JwtUtil.CLAIM_USER_ID, Number.class);
+        Number tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Number.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        if (userId == null || tokenVersion == null || role == null) {
+            return null;
+        }
+        if (!tokenVersionRegistry.isCurrent(userId.longValue(), tokenVersion.intValue())) {
+            logger.debug("Rejecting revoked JWT Token");
+            return null;
+        }
+        try {
+            return new JwtPrincipal(userId.longValue(), claims.getSubject(), User.Role.valueOf(role));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
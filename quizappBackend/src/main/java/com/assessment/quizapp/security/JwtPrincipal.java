@@ -0,0 +1,16 @@
+package com.assessment.quizapp.security;
+
+import com.assessment.quizapp.entity.User;
+
+import java.security.Principal;
+
+/**
+ * Authenticated user as described by the claims of a verified token.
+ */
+public record JwtPrincipal(Long userId, String username, User.Role role) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
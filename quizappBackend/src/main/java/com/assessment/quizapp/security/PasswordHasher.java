@@ -0,0 +1,153 @@
+package com.assessment.quizapp.security;
+
+import com.assessment.quizapp.metrics.PhaseTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of request threads. The pool
+ * has a bounded queue and rejects work immediately once it is full, so a
+ * login storm degrades into fast 429s rather than starving other endpoints.
+ * The BCrypt cost is calibrated at startup to land near a target hash time.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int MAX_STRENGTH = 16;
+    private static final int CALIBRATION_STRENGTH = 8;
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final PhaseTimer queueWaitTimer;
+    private final PhaseTimer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(@Value("${auth.hashing.threads:0}") int threads,
+                          @Value("${auth.hashing.queue-capacity:100}") int queueCapacity,
+                          @Value("${auth.bcrypt.target-ms:100}") long targetMillis,
+                          @Value("${auth.bcrypt.min-strength:10}") int minStrength,
+                          @Value("${auth.bcrypt.strength:0}") int fixedStrength,
+                          MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.strength = fixedStrength > 0 ? fixedStrength : calibrate(targetMillis, minStrength);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        // Waiting for a hashing thread is measured separately from the hash itself
+        this.queueWaitTimer = PhaseTimer.of(meterRegistry, "hash-wait", "quizapp.auth.hashing.queue.wait");
+        this.hashTimer = PhaseTimer.of(meterRegistry, "hash", "quizapp.auth.hashing.time");
+        this.rejectedCounter = Counter.builder("quizapp.auth.hashing.rejected").register(meterRegistry);
+        Gauge.builder("quizapp.auth.hashing.queue.depth", this, PasswordHasher::getQueueDepth).register(meterRegistry);
+        log.info("Password hashing uses BCrypt strength {} on {} threads (queue capacity {})",
+                strength, poolSize, queueCapacity);
+    }
+
+    public BCryptPasswordEncoder getEncoder() {
+        return encoder;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether a stored hash was produced with a cost other than the current
+     * target and should be replaced the next time the plain password is known.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T submit(Supplier<T> work) {
+        long enqueuedAt = System.nanoTime();
+        long[] phases = new long[2];
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                T result = work.get();
+                phases[0] = startedAt - enqueuedAt;
+                phases[1] = System.nanoTime() - startedAt;
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new HashingRejectedException("Too many concurrent authentication requests, please retry");
+        }
+
+        try {
+            T result = future.get();
+            // Recorded on the calling thread so the timings land in its Server-Timing header
+            queueWaitTimer.record(phases[0]);
+            hashTimer.record(phases[1]);
+            return result;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static int calibrate(long targetMillis, int minStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration"); // warm up
+        long startedAt = System.nanoTime();
+        probe.encode("calibration");
+        double probeMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000.0, 0.01);
+
+        // Every extra cost round doubles the work
+        int calibrated = CALIBRATION_STRENGTH + (int) Math.round(Math.log(targetMillis / probeMillis) / Math.log(2));
+        return Math.max(minStrength, Math.min(MAX_STRENGTH, calibrated));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
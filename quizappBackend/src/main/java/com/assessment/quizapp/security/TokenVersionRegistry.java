@@ -0,0 +1,76 @@
+package com.assessment.quizapp.security;
+
+import com.assessment.quizapp.metrics.PhaseTimer;
+import com.assessment.quizapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory table of each user's current token version. A token is only
+ * accepted while the version it was issued with matches, so bumping the
+ * version revokes every token issued to that user so far.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final int UNKNOWN_USER = -1;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private PhaseTimer lookupTimer;
+
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    private final AtomicLong revocations = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        lookupTimer = PhaseTimer.of(meterRegistry, "user-lookup", "quizapp.user.lookup", "source", "token-version");
+    }
+
+    public boolean isCurrent(long userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        if (current == null) {
+            // Load outside the map: computeIfAbsent would run the query under a bin lock and pin virtual threads
+            long stamp = revocations.get();
+            Integer loaded = lookupTimer.record(() -> userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER));
+            current = versions.putIfAbsent(userId, loaded);
+            if (current == null) {
+                current = loaded;
+                if (revocations.get() != stamp) {
+                    // A revocation committed while we were loading; don't keep what may be the old version
+                    versions.remove(userId, loaded);
+                }
+            }
+        }
+        return current == tokenVersion;
+    }
+
+    @Transactional
+    public void revoke(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new RuntimeException("User not found");
+        }
+        // Reload on next use, once the new version is visible to other transactions
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocations.incrementAndGet();
+                versions.remove(userId);
+            }
+        });
+    }
+}
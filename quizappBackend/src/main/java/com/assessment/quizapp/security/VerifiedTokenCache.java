@@ -0,0 +1,73 @@
+package com.assessment.quizapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Bounded cache of claims for tokens whose signature has already been
+ * verified. Entries are keyed by the SHA-256 of the raw token, so the token
+ * itself is never retained, and each one expires when its token does.
+ * Caffeine evicts in amortized constant time once the cache is full.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<TokenHash, Entry> entries;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((TokenHash key, Entry entry) ->
+                        Duration.ofMillis(Math.max(entry.expiresAt() - System.currentTimeMillis(), 0))))
+                .build();
+    }
+
+    public Claims get(String token) {
+        Entry entry = entries.getIfPresent(TokenHash.of(token));
+        return entry != null ? entry.claims() : null;
+    }
+
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        entries.put(TokenHash.of(token), new Entry(claims, expiration.getTime()));
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private record Entry(Claims claims, long expiresAt) {}
+
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+        static TokenHash of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenHash(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
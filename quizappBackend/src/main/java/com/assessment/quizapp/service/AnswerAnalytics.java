@@ -0,0 +1,251 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.dto.QuestionAnalyticsResponse;
+import com.assessment.quizapp.dto.QuizResultResponse;
+import com.assessment.quizapp.entity.OptionStats;
+import com.assessment.quizapp.entity.QuestionStats;
+import com.assessment.quizapp.repository.OptionStatsRepository;
+import com.assessment.quizapp.repository.QuestionStatsRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-question answer and per-option pick counts. Submissions only bump
+ * {@link LongAdder}s, which spread concurrent increments over separate
+ * cells, so counting adds no contention to the submit path. A background
+ * flush adds whatever was counted since the previous flush to the
+ * question_stats and option_stats tables; reads merge those totals with
+ * the counts not flushed yet.
+ */
+@Service
+public class AnswerAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerAnalytics.class);
+
+    @Autowired
+    private QuestionStatsRepository questionStatsRepository;
+
+    @Autowired
+    private OptionStatsRepository optionStatsRepository;
+
+    @Autowired
+    private QuestionBankCache questionBankCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Long, QuestionCounters> counters = new ConcurrentHashMap<>();
+
+    // Serializes flush and forget; a lock rather than synchronized so virtual threads don't pin their carrier during JDBC
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @TransactionalEventListener
+    public void onQuizSubmitted(QuizSubmittedEvent event) {
+        for (QuizResultResponse.QuestionResult result : event.getQuestionResults()) {
+            record(result.getQuestionId(), result.getSelectedOptionId(), Boolean.TRUE.equals(result.getIsCorrect()));
+        }
+    }
+
+    void record(Long questionId, Long selectedOptionId, boolean correct) {
+        QuestionCounters question = counters.get(questionId);
+        if (question == null) {
+            question = counters.computeIfAbsent(questionId, id -> new QuestionCounters());
+        }
+        question.answered.increment();
+        if (correct) {
+            question.correct.increment();
+        }
+        if (selectedOptionId != null) {
+            question.pick(selectedOptionId).increment();
+        }
+    }
+
+    /**
+     * Writes the counts gathered since the last flush. Nothing is reset in
+     * memory; each counter remembers how much of it has been written, so an
+     * increment racing the flush is simply picked up by the next one, and a
+     * failed flush is retried in full.
+     */
+    @Scheduled(fixedDelayString = "${analytics.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        Map<Long, Pending> questionDeltas = new HashMap<>();
+        Map<Long, Pending> optionDeltas = new HashMap<>();
+        counters.forEach((questionId, question) -> {
+            long answered = question.answered.unflushed();
+            long correct = question.correct.unflushed();
+            if (answered != 0 || correct != 0) {
+                questionDeltas.put(questionId, new Pending(questionId, question, answered, correct));
+            }
+            question.picks.forEach((optionId, picks) -> {
+                long picked = picks.unflushed();
+                if (picked != 0) {
+                    optionDeltas.put(optionId, new Pending(questionId, question, picked, 0));
+                }
+            });
+        });
+        if (questionDeltas.isEmpty() && optionDeltas.isEmpty()) {
+            return;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Map<Long, QuestionStats> questionRows = byId(
+                    questionStatsRepository.findForUpdate(questionDeltas.keySet()), QuestionStats::getQuestionId);
+            questionDeltas.forEach((questionId, delta) -> {
+                QuestionStats row = questionRows.get(questionId);
+                if (row == null) {
+                    row = new QuestionStats(questionId);
+                    row.add(delta.first(), delta.second());
+                    entityManager.persist(row);
+                } else {
+                    row.add(delta.first(), delta.second());
+                }
+            });
+
+            Map<Long, OptionStats> optionRows = byId(
+                    optionStatsRepository.findForUpdate(optionDeltas.keySet()), OptionStats::getOptionId);
+            optionDeltas.forEach((optionId, delta) -> {
+                OptionStats row = optionRows.get(optionId);
+                if (row == null) {
+                    row = new OptionStats(optionId, delta.questionId());
+                    row.add(delta.first());
+                    entityManager.persist(row);
+                } else {
+                    row.add(delta.first());
+                }
+            });
+        });
+
+        // Only once the totals have committed
+        questionDeltas.values().forEach(delta -> {
+            delta.question().answered.markFlushed(delta.first());
+            delta.question().correct.markFlushed(delta.second());
+        });
+        optionDeltas.forEach((optionId, delta) -> delta.question().pick(optionId).markFlushed(delta.first()));
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush answer analytics on shutdown", e);
+        }
+    }
+
+    /**
+     * Drops the in-memory counts of purged question versions. Call before
+     * their rows are deleted so a later flush cannot recreate them.
+     */
+    public void forget(Collection<Long> questionIds) {
+        flushLock.lock();
+        try {
+            questionIds.forEach(counters::remove);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Difficulty and pick distribution for every question in the current
+     * bank: flushed totals plus whatever has been counted since. Takes no
+     * lock; a read that overlaps a flush can count that flush's deltas
+     * twice until the next read.
+     */
+    public List<QuestionAnalyticsResponse> getQuestionAnalytics() {
+        QuestionBankSnapshot bank = questionBankCache.getSnapshot();
+        // Rows for questions the snapshot doesn't hold yet are ignored; ones it holds but the query missed read as zero
+        Map<Long, QuestionStats> questionRows = byId(
+                questionStatsRepository.findForActiveQuestions(), QuestionStats::getQuestionId);
+        Map<Long, OptionStats> optionRows = byId(
+                optionStatsRepository.findForActiveQuestions(), OptionStats::getOptionId);
+
+        List<QuestionAnalyticsResponse> analytics = new ArrayList<>(bank.getQuestionCount());
+        for (int i = 0; i < bank.getQuestionCount(); i++) {
+            QuizResultResponse.QuestionResult question = bank.getReviewQuestion(i);
+            QuestionStats row = questionRows.get(question.getQuestionId());
+            QuestionCounters pending = counters.get(question.getQuestionId());
+
+            long answered = (row != null ? row.getAnsweredCount() : 0) + (pending != null ? pending.answered.unflushed() : 0);
+            long correct = (row != null ? row.getCorrectCount() : 0) + (pending != null ? pending.correct.unflushed() : 0);
+
+            List<QuestionAnalyticsResponse.OptionAnalytics> options = new ArrayList<>(question.getOptions().size());
+            for (QuizResultResponse.QuestionResult.OptionResult option : question.getOptions()) {
+                OptionStats optionRow = optionRows.get(option.getId());
+                Counter pendingPicks = pending != null ? pending.picks.get(option.getId()) : null;
+                long picks = (optionRow != null ? optionRow.getPickCount() : 0) + (pendingPicks != null ? pendingPicks.unflushed() : 0);
+                options.add(new QuestionAnalyticsResponse.OptionAnalytics(
+                        option.getId(), option.getOptionText(), option.getIsCorrect(), picks, answered));
+            }
+            analytics.add(new QuestionAnalyticsResponse(
+                    question.getQuestionId(), question.getQuestionText(), answered, correct, options));
+        }
+        return analytics;
+    }
+
+    private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> id) {
+        return rows.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private record Pending(Long questionId, QuestionCounters question, long first, long second) {}
+
+    private static final class QuestionCounters {
+        final Counter answered = new Counter();
+        final Counter correct = new Counter();
+        final Map<Long, Counter> picks = new ConcurrentHashMap<>();
+
+        Counter pick(Long optionId) {
+            Counter counter = picks.get(optionId);
+            return counter != null ? counter : picks.computeIfAbsent(optionId, id -> new Counter());
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        // Only advanced under flushLock; volatile so lock-free readers see it
+        private volatile long flushed;
+
+        void increment() {
+            total.increment();
+        }
+
+        long unflushed() {
+            return total.sum() - flushed;
+        }
+
+        void markFlushed(long delta) {
+            flushed += delta;
+        }
+    }
+}
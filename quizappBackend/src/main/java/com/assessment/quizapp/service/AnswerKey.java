@@ -0,0 +1,144 @@
+package com.assessment.quizapp.service;
+
+import java.util.Arrays;
+
+/**
+ * Read-only answer key for grading. Maps option ids to their owning question
+ * and correctness, and question ids to a dense index, using open-addressing
+ * tables over primitive arrays so lookups never box or touch entities.
+ * Ids are assumed to be positive; 0 marks an empty slot.
+ */
+public final class AnswerKey {
+
+    private static final long EMPTY = 0L;
+
+    private final long[] optionKeys;
+    // questionId << 1 | (isCorrect ? 1 : 0)
+    private final long[] optionValues;
+    private final int optionMask;
+
+    private final long[] questionKeys;
+    private final int[] questionIndexes;
+    private final int questionMask;
+    private final int questionCount;
+
+    private AnswerKey(Builder builder) {
+        int optionCapacity = tableCapacity(builder.optionCount);
+        optionKeys = new long[optionCapacity];
+        optionValues = new long[optionCapacity];
+        optionMask = optionCapacity - 1;
+        for (int i = 0; i < builder.optionCount; i++) {
+            int slot = findSlot(optionKeys, optionMask, builder.optionIds[i]);
+            optionKeys[slot] = builder.optionIds[i];
+            optionValues[slot] = builder.optionOwners[i] << 1 | (builder.optionCorrect[i] ? 1 : 0);
+        }
+
+        int questionCapacity = tableCapacity(builder.questionCount);
+        questionKeys = new long[questionCapacity];
+        questionIndexes = new int[questionCapacity];
+        questionMask = questionCapacity - 1;
+        for (int i = 0; i < builder.questionCount; i++) {
+            int slot = findSlot(questionKeys, questionMask, builder.questionIds[i]);
+            questionKeys[slot] = builder.questionIds[i];
+            questionIndexes[slot] = i;
+        }
+        questionCount = builder.questionCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Returns the dense index the question was added under, or -1 if the
+     * question is not part of the bank.
+     */
+    public int questionIndex(long questionId) {
+        if (questionId <= 0) {
+            return -1;
+        }
+        int slot = findSlot(questionKeys, questionMask, questionId);
+        return questionKeys[slot] == EMPTY ? -1 : questionIndexes[slot];
+    }
+
+    /**
+     * Returns the id of the question the option belongs to, or 0 if the
+     * option is unknown.
+     */
+    public long questionOf(long optionId) {
+        if (optionId <= 0) {
+            return 0L;
+        }
+        int slot = findSlot(optionKeys, optionMask, optionId);
+        return optionKeys[slot] == EMPTY ? 0L : optionValues[slot] >>> 1;
+    }
+
+    public boolean isCorrect(long optionId) {
+        if (optionId <= 0) {
+            return false;
+        }
+        int slot = findSlot(optionKeys, optionMask, optionId);
+        return optionKeys[slot] != EMPTY && (optionValues[slot] & 1L) != 0;
+    }
+
+    private static int findSlot(long[] keys, int mask, long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableCapacity(int entries) {
+        // Keep the load factor at or below 0.5 so probe chains stay short
+        int capacity = Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+
+    public static final class Builder {
+        private long[] questionIds = new long[16];
+        private int questionCount;
+
+        private long[] optionIds = new long[64];
+        private long[] optionOwners = new long[64];
+        private boolean[] optionCorrect = new boolean[64];
+        private int optionCount;
+
+        private Builder() {}
+
+        public Builder addQuestion(long questionId) {
+            if (questionCount == questionIds.length) {
+                questionIds = Arrays.copyOf(questionIds, questionCount * 2);
+            }
+            questionIds[questionCount++] = questionId;
+            return this;
+        }
+
+        public Builder addOption(long optionId, long questionId, boolean isCorrect) {
+            if (optionCount == optionIds.length) {
+                int grown = optionCount * 2;
+                optionIds = Arrays.copyOf(optionIds, grown);
+                optionOwners = Arrays.copyOf(optionOwners, grown);
+                optionCorrect = Arrays.copyOf(optionCorrect, grown);
+            }
+            optionIds[optionCount] = optionId;
+            optionOwners[optionCount] = questionId;
+            optionCorrect[optionCount] = isCorrect;
+            optionCount++;
+            return this;
+        }
+
+        public AnswerKey build() {
+            return new AnswerKey(this);
+        }
+    }
+}
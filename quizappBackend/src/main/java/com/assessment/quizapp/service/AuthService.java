@@ -3,10 +3,14 @@ package com.assessment.quizapp.service;
 import com.assessment.quizapp.dto.AuthRequest;
 import com.assessment.quizapp.dto.AuthResponse;
 import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.metrics.PhaseTimer;
 import com.assessment.quizapp.repository.UserRepository;
+import com.assessment.quizapp.security.PasswordHasher;
+import com.assessment.quizapp.security.TokenVersionRegistry;
 import com.assessment.quizapp.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,20 +20,44 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private ScoreSummaryService scoreSummaryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private PhaseTimer userLookupTimer;
+
+    @PostConstruct
+    void init() {
+        userLookupTimer = PhaseTimer.of(meterRegistry, "user-lookup", "quizapp.user.lookup", "source", "login");
+    }
+
     public AuthResponse login(AuthRequest authRequest) {
-        User user = userRepository.findByUsername(authRequest.getUsername())
+        User user = userLookupTimer.record(() -> userRepository.findByUsername(authRequest.getUsername()))
+                .filter(u -> u.getDeletedAt() == null)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(authRequest.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(authRequest.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid password");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername());
+        // Transparently move the stored hash to the current cost target
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHasher.encode(authRequest.getPassword()));
+            user = userRepository.save(user);
+        }
+
+        // Not registered here: a revoke committing during the hash would be undone. The filter loads the version on first use
+        String token = jwtUtil.generateToken(user);
         return new AuthResponse(token, user);
     }
 
@@ -45,11 +73,16 @@ public class AuthService {
         User user = new User();
         user.setUsername(authRequest.getUsername());
         user.setEmail(authRequest.getEmail());
-        user.setPassword(passwordEncoder.encode(authRequest.getPassword()));
+        user.setPassword(passwordHasher.encode(authRequest.getPassword()));
         user.setRole(User.Role.USER);
 
         User savedUser = userRepository.save(user);
-        String token = jwtUtil.generateToken(savedUser.getUsername());
+        scoreSummaryService.createFor(savedUser.getId());
+        String token = jwtUtil.generateToken(savedUser);
         return new AuthResponse(token, savedUser);
     }
+
+    public void revokeTokens(Long userId) {
+        tokenVersionRegistry.revoke(userId);
+    }
 }
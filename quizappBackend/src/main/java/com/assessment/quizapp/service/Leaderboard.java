@@ -0,0 +1,160 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.repository.LeaderboardRow;
+import com.assessment.quizapp.repository.QuizAttemptRepository;
+import com.assessment.quizapp.util.IndexableSkipList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Every user's best attempt, kept ranked in memory. Built from quiz_attempts
+ * once at startup and then updated from each committed submission, so top-K
+ * and rank lookups never query the database and cost O(log n + K).
+ */
+@Component
+public class Leaderboard {
+
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final IndexableSkipList<LeaderboardEntry> ranking = new IndexableSkipList<>(LeaderboardEntry.ORDER);
+
+    private final Map<Long, LeaderboardEntry> bestByUser = new HashMap<>();
+
+    public record Standing(int rank, LeaderboardEntry entry) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        Map<Long, LeaderboardEntry> loaded = template.execute(status -> {
+            Map<Long, LeaderboardEntry> best = new HashMap<>();
+            try (Stream<LeaderboardRow> rows = quizAttemptRepository.streamForLeaderboard()) {
+                rows.forEach(row -> best.merge(row.userId(), toEntry(row),
+                        (a, b) -> LeaderboardEntry.ORDER.compare(a, b) <= 0 ? a : b));
+            }
+            return best;
+        });
+
+        // Merged rather than swapped in, so submissions that committed during the scan are kept
+        lock.writeLock().lock();
+        try {
+            loaded.values().forEach(this::offerLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onQuizSubmitted(QuizSubmittedEvent event) {
+        offer(LeaderboardEntry.of(event.getUserId(), event.getUsername(), event.getScore(),
+                event.getTotalQuestions(), event.getStartTime(), event.getEndTime()));
+    }
+
+    /**
+     * Records an attempt; it only changes the board if it beats the user's best.
+     */
+    public void offer(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            offerLocked(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the user from the board once the current transaction commits,
+     * or straight away outside of one.
+     */
+    public void removeUser(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeNow(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeNow(userId);
+            }
+        });
+    }
+
+    public List<LeaderboardEntry> top(int count) {
+        lock.readLock().lock();
+        try {
+            return ranking.range(1, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the user's rank and best attempt, or null if they have none.
+     */
+    public Standing standingOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = bestByUser.get(userId);
+            return entry != null ? new Standing(ranking.rank(entry), entry) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void offerLocked(LeaderboardEntry entry) {
+        LeaderboardEntry current = bestByUser.get(entry.userId());
+        if (current != null) {
+            if (LeaderboardEntry.ORDER.compare(current, entry) <= 0) {
+                return;
+            }
+            ranking.remove(current);
+        }
+        ranking.add(entry);
+        bestByUser.put(entry.userId(), entry);
+    }
+
+    private void removeNow(Long userId) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry current = bestByUser.remove(userId);
+            if (current != null) {
+                ranking.remove(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static LeaderboardEntry toEntry(LeaderboardRow row) {
+        return LeaderboardEntry.of(row.userId(), row.username(), row.score(), row.totalQuestions(),
+                row.startTime(), row.endTime());
+    }
+}
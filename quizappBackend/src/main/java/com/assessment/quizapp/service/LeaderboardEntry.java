@@ -0,0 +1,25 @@
+package com.assessment.quizapp.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * A user's best attempt. More correct answers rank first, so answering part of
+ * the bank can never beat a full attempt; then faster completion. The user id
+ * makes every entry distinct.
+ */
+public record LeaderboardEntry(long userId, String username, int score, int totalQuestions,
+                               long durationMillis, LocalDateTime completedAt) {
+
+    public static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingInt(LeaderboardEntry::score).reversed()
+            .thenComparingLong(LeaderboardEntry::durationMillis)
+            .thenComparingLong(LeaderboardEntry::userId);
+
+    public static LeaderboardEntry of(long userId, String username, int score, int totalQuestions,
+                                      LocalDateTime startTime, LocalDateTime endTime) {
+        long durationMillis = Math.max(0, Duration.between(startTime, endTime).toMillis());
+        return new LeaderboardEntry(userId, username, score, totalQuestions, durationMillis, endTime);
+    }
+}
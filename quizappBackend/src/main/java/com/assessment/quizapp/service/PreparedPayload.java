@@ -0,0 +1,52 @@
+package com.assessment.quizapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized once, kept both as plain JSON and gzipped.
+ * The arrays are shared between requests and must not be modified.
+ */
+public final class PreparedPayload {
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private PreparedPayload(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public static PreparedPayload of(ObjectMapper objectMapper, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new PreparedPayload(json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 64);
+        // Compressed once per bank version, so spend the time on the best ratio
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,242 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.entity.PurgeTask;
+import com.assessment.quizapp.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Removes soft-deleted questions and users in the background. Dependent rows
+ * are deleted in small chunks, each in its own short transaction with a
+ * pause in between, so a purge never holds locks or memory proportional to
+ * the history being removed and quiz traffic keeps flowing. Tasks wait a
+ * grace period after the soft delete so submissions already in flight can
+ * commit first, and failed tasks are retried with exponential backoff.
+ */
+@Service
+public class PurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(PurgeService.class);
+
+    @Autowired
+    private PurgeTaskRepository purgeTaskRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    @Autowired
+    private UserAnswerRepository userAnswerRepository;
+
+    @Autowired
+    private UserScoreSummaryRepository userScoreSummaryRepository;
+
+    @Autowired
+    private QuestionStatsRepository questionStatsRepository;
+
+    @Autowired
+    private OptionStatsRepository optionStatsRepository;
+
+    @Autowired
+    private AnswerAnalytics answerAnalytics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${purge.pause-ms:50}")
+    private long pauseMillis;
+
+    @Value("${purge.grace-ms:60000}")
+    private long graceMillis;
+
+    @Value("${purge.retry-delay-ms:10000}")
+    private long retryDelayMillis;
+
+    @Value("${purge.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * Queues a purge. Call from the transaction that soft-deletes the target
+     * so the task only exists if the delete commits.
+     */
+    public PurgeTask schedule(PurgeTask.TargetType targetType, Long targetId) {
+        PurgeTask task = new PurgeTask(targetType, targetId);
+        task.setRunAfter(task.getCreatedAt().plus(Duration.ofMillis(graceMillis)));
+        return purgeTaskRepository.save(task);
+    }
+
+    public List<PurgeTask> getRecentTasks() {
+        return purgeTaskRepository.findTop50ByOrderByIdDesc();
+    }
+
+    public PurgeTask getTask(Long id) {
+        return purgeTaskRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Purge task not found"));
+    }
+
+    @Scheduled(fixedDelayString = "${purge.interval-ms:5000}")
+    public void runPendingTasks() {
+        // RUNNING tasks are picked up again in case the app stopped halfway through one
+        for (PurgeTask task : purgeTaskRepository.findByStatusInAndRunAfterLessThanEqualOrderByIdAsc(
+                List.of(PurgeTask.Status.PENDING, PurgeTask.Status.RUNNING, PurgeTask.Status.FAILED), LocalDateTime.now())) {
+            run(task);
+        }
+    }
+
+    private void run(PurgeTask task) {
+        Long taskId = task.getId();
+        updateTask(taskId, t -> t.setStatus(PurgeTask.Status.RUNNING));
+        try {
+            if (task.getTargetType() == PurgeTask.TargetType.QUESTION) {
+                purgeQuestion(taskId, task.getTargetId());
+            } else {
+                purgeUser(taskId, task.getTargetId());
+            }
+            updateTask(taskId, t -> {
+                t.setStatus(PurgeTask.Status.DONE);
+                t.setPhase(null);
+                t.setRunAfter(null);
+                t.setCompletedAt(LocalDateTime.now());
+            });
+        } catch (RuntimeException e) {
+            log.error("Purge task {} failed", taskId, e);
+            updateTask(taskId, t -> {
+                int attempts = t.getAttempts() + 1;
+                t.setAttempts(attempts);
+                t.setStatus(PurgeTask.Status.FAILED);
+                t.setLastError(e.getMessage());
+                // Each retry waits twice as long as the last; after maxAttempts it stays FAILED
+                t.setRunAfter(attempts < maxAttempts
+                        ? LocalDateTime.now().plus(Duration.ofMillis(retryDelayMillis << Math.min(attempts - 1, 16)))
+                        : null);
+            });
+        }
+    }
+
+    /**
+     * Removes the deleted question together with every earlier version of it.
+     * Earlier versions stay readable after an edit, but only while the
+     * question itself exists; deleting it deletes its history and the answers
+     * recorded against that history.
+     */
+    private void purgeQuestion(Long taskId, Long questionId) {
+        List<Long> versionIds = new ArrayList<>();
+        for (Long id = questionId; id != null; id = questionRepository.findPreviousVersionId(id).orElse(null)) {
+            versionIds.add(id);
+        }
+
+        deleteInChunks(taskId, "user_answers",
+                limit -> userAnswerRepository.findIdsByQuestionIdIn(versionIds, limit),
+                userAnswerRepository::deleteByIdIn);
+        answerAnalytics.forget(versionIds);
+        deleteOnce(taskId, "question_stats", () ->
+                optionStatsRepository.deleteByQuestionIdIn(versionIds) + questionStatsRepository.deleteByQuestionIdIn(versionIds));
+        // Answers are swept again in the same transaction in case a submission committed after the chunked pass
+        deleteOnce(taskId, "options", () ->
+                userAnswerRepository.deleteByQuestionIdIn(versionIds) + optionRepository.deleteByQuestionIdIn(versionIds));
+        deleteOnce(taskId, "questions", () -> questionRepository.deleteByIdIn(versionIds));
+    }
+
+    private void purgeUser(Long taskId, Long userId) {
+        deleteInChunks(taskId, "user_answers",
+                limit -> userAnswerRepository.findIdsByUserId(userId, limit),
+                userAnswerRepository::deleteByIdIn);
+        deleteInChunks(taskId, "quiz_attempts",
+                limit -> quizAttemptRepository.findIdsByUserId(userId, limit),
+                quizAttemptRepository::deleteByIdIn);
+        deleteOnce(taskId, "users", () -> {
+            int deleted = userScoreSummaryRepository.deleteByUserId(userId);
+            userRepository.deleteById(userId);
+            return deleted + 1;
+        });
+    }
+
+    private void deleteInChunks(Long taskId, String phase,
+                                Function<Limit, List<Long>> findIds, Function<List<Long>, Integer> delete) {
+        Limit limit = Limit.of(chunkSize);
+        while (true) {
+            int deleted = inTransaction(() -> {
+                List<Long> ids = findIds.apply(limit);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                int count = delete.apply(ids);
+                recordProgress(taskId, phase, count);
+                return count;
+            });
+            if (deleted == 0) {
+                return;
+            }
+            pause();
+        }
+    }
+
+    private void deleteOnce(Long taskId, String phase, Supplier<Integer> delete) {
+        inTransaction(() -> {
+            int count = delete.get();
+            recordProgress(taskId, phase, count);
+            return count;
+        });
+    }
+
+    private void recordProgress(Long taskId, String phase, int deleted) {
+        purgeTaskRepository.findById(taskId).ifPresent(task -> {
+            task.setPhase(phase);
+            task.setRowsDeleted(task.getRowsDeleted() + deleted);
+            task.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    private void updateTask(Long taskId, Consumer<PurgeTask> update) {
+        inTransaction(() -> {
+            purgeTaskRepository.findById(taskId).ifPresent(task -> {
+                update.accept(task);
+                task.setUpdatedAt(LocalDateTime.now());
+            });
+            return 0;
+        });
+    }
+
+    private int inTransaction(Supplier<Integer> work) {
+        Integer result = new TransactionTemplate(transactionManager).execute(status -> work.get());
+        return result != null ? result : 0;
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while purging");
+        }
+    }
+}
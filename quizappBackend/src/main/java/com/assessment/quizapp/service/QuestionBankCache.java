@@ -0,0 +1,272 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.dto.QuestionResponse;
+import com.assessment.quizapp.dto.QuizResultResponse;
+import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.Question;
+import com.assessment.quizapp.repository.QuestionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link QuestionBankSnapshot}. Readers never touch the
+ * database; after every committed change to the bank a new snapshot is
+ * swapped in whole. Edits only reload the questions they touched and copy
+ * the rest from the previous snapshot; startup and imports reload the bank.
+ */
+@Component
+public class QuestionBankCache {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Guards rebuilds; a lock rather than synchronized so virtual threads don't pin their carrier during JDBC
+    // Allows for the lag between an edit committing and the rebuilt snapshot replacing the old one
+    private static final Duration REBUILD_GRACE = Duration.ofMinutes(1);
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile QuestionBankSnapshot snapshot;
+
+    private long nextVersion = 1;
+
+    // Versions restart with the app, so entity tags also carry the startup time
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public QuestionBankSnapshot getSnapshot() {
+        QuestionBankSnapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * Returns a snapshot that knows every given question. That is normally
+     * the current one; a quiz started before an edit still answers the
+     * versions retired since it started, which are loaded for just this
+     * submission. Deleted questions and versions retired before the quiz
+     * started are never loaded, so grading rejects them as unknown.
+     */
+    public QuestionBankSnapshot getSnapshotFor(List<Long> questionIds, LocalDateTime startedAt) {
+        QuestionBankSnapshot current = getSnapshot();
+        List<Long> unknownIds = new ArrayList<>();
+        for (Long questionId : questionIds) {
+            if (questionId != null && current.getAnswerKey().questionIndex(questionId) < 0) {
+                unknownIds.add(questionId);
+            }
+        }
+        if (unknownIds.isEmpty()) {
+            return current;
+        }
+
+        // Only the unknown ids are read; the quiz may have been served a snapshot built just before it started
+        List<Question> retired = questionRepository.findRetiredWithOptionsByIdIn(unknownIds, startedAt.minus(REBUILD_GRACE));
+        if (retired.size() < unknownIds.size()) {
+            return current;
+        }
+        return withRetired(current, questionIds, retired);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionBankChanged(QuestionBankChangedEvent event) {
+        if (event.getQuestionIds() == null) {
+            rebuild();
+        } else {
+            refresh(event.getQuestionIds());
+        }
+    }
+
+    public QuestionBankSnapshot rebuild() {
+        // Runs after the writer has committed, so it needs a fresh transaction of its own
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+
+        rebuildLock.lock();
+        try {
+            return publish(template.execute(status -> buildSnapshot(questionRepository.findAllWithOptions())));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the current state of the given questions to the previous
+     * snapshot: entries for those ids are dropped, and the ones still active
+     * are reloaded and merged back in id order.
+     */
+    private void refresh(List<Long> questionIds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+
+        rebuildLock.lock();
+        try {
+            QuestionBankSnapshot current = snapshot;
+            if (current == null) {
+                publish(template.execute(status -> buildSnapshot(questionRepository.findAllWithOptions())));
+                return;
+            }
+            List<Question> changed = template.execute(status -> questionRepository.findAllWithOptionsByIdIn(questionIds));
+            publish(mergeSnapshot(current, new HashSet<>(questionIds), changed));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private QuestionBankSnapshot publish(QuestionBankSnapshot built) {
+        // Serialize and compress once here so serving the quiz is a plain byte copy
+        QuestionBankSnapshot prepared = built.withQuizPayload(PreparedPayload.of(objectMapper, built.getQuizQuestions()));
+        snapshot = prepared;
+        return prepared;
+    }
+
+    private QuestionBankSnapshot buildSnapshot(List<Question> questions) {
+        return buildSnapshot(nextVersion++, questions);
+    }
+
+    private QuestionBankSnapshot buildSnapshot(long version, List<Question> questions) {
+        List<QuestionResponse> quizQuestions = new ArrayList<>(questions.size());
+        QuizResultResponse.QuestionResult[] reviewQuestions = new QuizResultResponse.QuestionResult[questions.size()];
+        AnswerKey.Builder answerKey = AnswerKey.builder();
+
+        for (int i = 0; i < questions.size(); i++) {
+            Question question = questions.get(i);
+            quizQuestions.add(convertToQuizResponse(question));
+            reviewQuestions[i] = convertToReviewQuestion(question);
+
+            answerKey.addQuestion(question.getId());
+            for (Option option : question.getOptions()) {
+                answerKey.addOption(option.getId(), question.getId(), Boolean.TRUE.equals(option.getIsCorrect()));
+            }
+        }
+
+        return new QuestionBankSnapshot(version, eTagOf(version), Instant.now(), quizQuestions, answerKey.build(), reviewQuestions);
+    }
+
+    // Both lists are ordered by id, as findAllWithOptions and findAllWithOptionsByIdIn return them
+    private QuestionBankSnapshot mergeSnapshot(QuestionBankSnapshot current, Set<Long> changedIds, List<Question> changed) {
+        List<Question> active = changed.stream().filter(Question::getActive).toList();
+        int capacity = current.getQuestionCount() + active.size();
+        List<QuestionResponse> quizQuestions = new ArrayList<>(capacity);
+        List<QuizResultResponse.QuestionResult> reviewQuestions = new ArrayList<>(capacity);
+
+        int next = 0;
+        for (int i = 0; i < current.getQuestionCount(); i++) {
+            QuizResultResponse.QuestionResult review = current.getReviewQuestion(i);
+            while (next < active.size() && active.get(next).getId() < review.getQuestionId()) {
+                quizQuestions.add(convertToQuizResponse(active.get(next)));
+                reviewQuestions.add(convertToReviewQuestion(active.get(next)));
+                next++;
+            }
+            if (!changedIds.contains(review.getQuestionId())) {
+                quizQuestions.add(current.getQuizQuestions().get(i));
+                reviewQuestions.add(review);
+            }
+        }
+        for (; next < active.size(); next++) {
+            quizQuestions.add(convertToQuizResponse(active.get(next)));
+            reviewQuestions.add(convertToReviewQuestion(active.get(next)));
+        }
+
+        AnswerKey.Builder answerKey = AnswerKey.builder();
+        for (QuizResultResponse.QuestionResult review : reviewQuestions) {
+            answerKey.addQuestion(review.getQuestionId());
+            for (QuizResultResponse.QuestionResult.OptionResult option : review.getOptions()) {
+                answerKey.addOption(option.getId(), review.getQuestionId(), Boolean.TRUE.equals(option.getIsCorrect()));
+            }
+        }
+
+        long version = nextVersion++;
+        return new QuestionBankSnapshot(version, eTagOf(version), Instant.now(), quizQuestions, answerKey.build(),
+                reviewQuestions.toArray(new QuizResultResponse.QuestionResult[0]));
+    }
+
+    private String eTagOf(long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    private QuestionBankSnapshot withRetired(QuestionBankSnapshot current, List<Long> questionIds, List<Question> retired) {
+        Map<Long, Question> retiredById = new HashMap<>();
+        for (Question question : retired) {
+            retiredById.put(question.getId(), question);
+        }
+
+        List<QuestionResponse> quizQuestions = new ArrayList<>(questionIds.size());
+        QuizResultResponse.QuestionResult[] reviewQuestions = new QuizResultResponse.QuestionResult[questionIds.size()];
+        AnswerKey.Builder answerKey = AnswerKey.builder();
+
+        for (int i = 0; i < questionIds.size(); i++) {
+            Long questionId = questionIds.get(i);
+            Question question = retiredById.get(questionId);
+            if (question != null) {
+                quizQuestions.add(convertToQuizResponse(question));
+                reviewQuestions[i] = convertToReviewQuestion(question);
+            } else {
+                int index = current.getAnswerKey().questionIndex(questionId);
+                quizQuestions.add(current.getQuizQuestions().get(index));
+                reviewQuestions[i] = current.getReviewQuestion(index);
+            }
+
+            answerKey.addQuestion(questionId);
+            for (QuizResultResponse.QuestionResult.OptionResult option : reviewQuestions[i].getOptions()) {
+                answerKey.addOption(option.getId(), questionId, Boolean.TRUE.equals(option.getIsCorrect()));
+            }
+        }
+
+        return new QuestionBankSnapshot(current.getVersion(), current.getETag(), Instant.now(), quizQuestions,
+                answerKey.build(), reviewQuestions);
+    }
+
+    private QuestionResponse convertToQuizResponse(Question question) {
+        List<QuestionResponse.OptionResponse> optionResponses = question.getOptions().stream()
+                .map(option -> new QuestionResponse.OptionResponse(
+                        option.getId(),
+                        option.getOptionText(),
+                        null // Don't reveal correct answers during quiz
+                ))
+                .collect(Collectors.toUnmodifiableList());
+
+        return new QuestionResponse(question.getId(), question.getQuestionText(), optionResponses);
+    }
+
+    private QuizResultResponse.QuestionResult convertToReviewQuestion(Question question) {
+        List<QuizResultResponse.QuestionResult.OptionResult> optionResults = question.getOptions().stream()
+                .map(option -> new QuizResultResponse.QuestionResult.OptionResult(
+                        option.getId(),
+                        option.getOptionText(),
+                        option.getIsCorrect()
+                ))
+                .collect(Collectors.toUnmodifiableList());
+
+        return new QuizResultResponse.QuestionResult(question.getId(), question.getQuestionText(), optionResults, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.assessment.quizapp.service;
+
+import java.util.List;
+
+public class QuestionBankChangedEvent {
+    // Every question version created, retired or deleted; null when too many changed to list, as after an import
+    private final List<Long> questionIds;
+
+    public QuestionBankChangedEvent(List<Long> questionIds) {
+        this.questionIds = questionIds;
+    }
+
+    public List<Long> getQuestionIds() {
+        return questionIds;
+    }
+}
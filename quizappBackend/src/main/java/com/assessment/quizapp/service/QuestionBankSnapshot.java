@@ -0,0 +1,99 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.dto.QuestionResponse;
+import com.assessment.quizapp.dto.QuizResultResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable view of the question bank at a given version. Options in the
+ * quiz view are stripped of their correctness flag so the list can be
+ * handed straight to quiz takers; grading goes through the answer key and
+ * the review entries, which are indexed by {@link AnswerKey#questionIndex}.
+ */
+public final class QuestionBankSnapshot {
+    private final long version;
+    private final String eTag;
+    private final String gzipETag;
+    private final Instant builtAt;
+    private final List<QuestionResponse> quizQuestions;
+    private final AnswerKey answerKey;
+    private final QuizResultResponse.QuestionResult[] reviewQuestions;
+    private final PreparedPayload quizPayload;
+
+    QuestionBankSnapshot(long version, String eTag, Instant builtAt, List<QuestionResponse> quizQuestions,
+                         AnswerKey answerKey, QuizResultResponse.QuestionResult[] reviewQuestions) {
+        this(version, eTag, builtAt, quizQuestions, answerKey, reviewQuestions, null);
+    }
+
+    private QuestionBankSnapshot(long version, String eTag, Instant builtAt, List<QuestionResponse> quizQuestions,
+                                 AnswerKey answerKey, QuizResultResponse.QuestionResult[] reviewQuestions,
+                                 PreparedPayload quizPayload) {
+        this.version = version;
+        this.eTag = eTag;
+        // The gzipped body is a different representation, so it needs its own strong tag
+        this.gzipETag = eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        this.builtAt = builtAt;
+        this.quizQuestions = List.copyOf(quizQuestions);
+        this.answerKey = answerKey;
+        this.reviewQuestions = reviewQuestions;
+        this.quizPayload = quizPayload;
+    }
+
+    /**
+     * Returns a copy of this snapshot carrying the serialized quiz questions.
+     */
+    QuestionBankSnapshot withQuizPayload(PreparedPayload quizPayload) {
+        return new QuestionBankSnapshot(version, eTag, builtAt, quizQuestions, answerKey, reviewQuestions, quizPayload);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Strong entity tag for every response derived from this version of the
+     * bank. It changes with each rebuild and across restarts.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public List<QuestionResponse> getQuizQuestions() {
+        return quizQuestions;
+    }
+
+    /**
+     * The quiz questions as JSON, serialized and compressed when the snapshot
+     * was built. Only the snapshot served by {@link QuestionBankCache#getSnapshot()}
+     * carries one.
+     */
+    public PreparedPayload getQuizPayload() {
+        return quizPayload;
+    }
+
+    public int getQuestionCount() {
+        return quizQuestions.size();
+    }
+
+    public AnswerKey getAnswerKey() {
+        return answerKey;
+    }
+
+    /**
+     * Returns the question with its options and their correctness, for use in
+     * graded results. The returned template has no selection filled in.
+     */
+    public QuizResultResponse.QuestionResult getReviewQuestion(int questionIndex) {
+        return reviewQuestions[questionIndex];
+    }
+}
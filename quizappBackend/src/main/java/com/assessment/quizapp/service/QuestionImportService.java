@@ -0,0 +1,230 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.dto.QuestionImportResponse;
+import com.assessment.quizapp.dto.QuestionRequest;
+import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.Question;
+import com.assessment.quizapp.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk question import from NDJSON or CSV. Input is read and validated a row
+ * at a time and written in chunks, each chunk in its own transaction, so a
+ * bad row or a failed chunk is reported without aborting the rest.
+ * Sequence ids and JDBC batching turn each chunk into a handful of
+ * multi-row inserts.
+ */
+@Service
+public class QuestionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${questions.import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * One {@link QuestionRequest} JSON object per line; blank lines are
+     * skipped. Lines produced by the export endpoint are accepted as is.
+     */
+    public QuestionImportResponse importNdjson(BufferedReader reader) throws IOException {
+        ImportRun run = new ImportRun();
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.add(lineNumber, objectMapper.readValue(line, QuestionRequest.class));
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    /**
+     * Columns are {@code question_text,correct_option,option_1,option_2,...}
+     * where {@code correct_option} is the 1-based number of the correct
+     * option. A header row starting with {@code question_text} is skipped.
+     */
+    public QuestionImportResponse importCsv(BufferedReader reader) throws IOException {
+        ImportRun run = new ImportRun();
+        CsvReader csv = new CsvReader(reader);
+        List<String> record;
+        while (true) {
+            try {
+                record = csv.readRecord();
+            } catch (IllegalArgumentException e) {
+                run.reject(csv.getRecordLine(), e.getMessage());
+                break;
+            }
+            if (record == null) {
+                break;
+            }
+            int line = csv.getRecordLine();
+            if (line == 1 && "question_text".equalsIgnoreCase(record.get(0).trim())) {
+                continue;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                run.add(line, fromCsv(record));
+            } catch (IllegalArgumentException e) {
+                run.reject(line, e.getMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    private static QuestionRequest fromCsv(List<String> record) {
+        if (record.size() < 4) {
+            throw new IllegalArgumentException("Expected question_text, correct_option and at least two options");
+        }
+        int correctOption;
+        try {
+            correctOption = Integer.parseInt(record.get(1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("correct_option must be a number");
+        }
+
+        List<QuestionRequest.OptionRequest> options = new ArrayList<>(record.size() - 2);
+        for (int i = 2; i < record.size(); i++) {
+            options.add(new QuestionRequest.OptionRequest(record.get(i), i - 1 == correctOption));
+        }
+        return new QuestionRequest(record.get(0), options);
+    }
+
+    private String validate(QuestionRequest request) {
+        for (ConstraintViolation<QuestionRequest> violation : validator.validate(request)) {
+            return violation.getPropertyPath() + " " + violation.getMessage();
+        }
+        List<QuestionRequest.OptionRequest> options = request.getOptions();
+        if (options == null || options.size() < 2) {
+            return "At least 2 options are required";
+        }
+        int correct = 0;
+        for (int i = 0; i < options.size(); i++) {
+            QuestionRequest.OptionRequest option = options.get(i);
+            if (option == null) {
+                return "options[" + i + "] is missing";
+            }
+            for (ConstraintViolation<QuestionRequest.OptionRequest> violation : validator.validate(option)) {
+                return "options[" + i + "]." + violation.getPropertyPath() + " " + violation.getMessage();
+            }
+            if (Boolean.TRUE.equals(option.getIsCorrect())) {
+                correct++;
+            }
+        }
+        if (correct != 1) {
+            return "Exactly one correct option is required";
+        }
+        return null;
+    }
+
+    private static Question toEntity(QuestionRequest request) {
+        Question question = new Question(request.getQuestionText());
+        List<Option> options = new ArrayList<>(request.getOptions().size());
+        for (QuestionRequest.OptionRequest optionRequest : request.getOptions()) {
+            Option option = new Option(optionRequest.getOptionText(), Boolean.TRUE.equals(optionRequest.getIsCorrect()));
+            option.setQuestion(question);
+            options.add(option);
+        }
+        question.setOptions(options);
+        return question;
+    }
+
+    private record ImportRow(int line, QuestionRequest request) {}
+
+    private class ImportRun {
+        private final QuestionImportResponse result = new QuestionImportResponse();
+        private final List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        void add(int line, QuestionRequest request) {
+            String error = validate(request);
+            if (error != null) {
+                reject(line, error);
+                return;
+            }
+            chunk.add(new ImportRow(line, request));
+            if (chunk.size() >= chunkSize) {
+                writeChunk();
+            }
+        }
+
+        void reject(int line, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new QuestionImportResponse.RowError(line, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        QuestionImportResponse finish() {
+            writeChunk();
+            if (result.getImported() > 0) {
+                eventPublisher.publishEvent(new QuestionBankChangedEvent(null));
+            }
+            return result;
+        }
+
+        private void writeChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            try {
+                template.executeWithoutResult(status -> {
+                    for (ImportRow row : chunk) {
+                        entityManager.persist(toEntity(row.request()));
+                    }
+                    entityManager.flush();
+                    // Keep the persistence context from growing across chunks
+                    entityManager.clear();
+                });
+                result.setImported(result.getImported() + chunk.size());
+            } catch (RuntimeException e) {
+                String message = "Chunk rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                for (ImportRow row : chunk) {
+                    reject(row.line(), message);
+                }
+            }
+            chunk.clear();
+        }
+    }
+}
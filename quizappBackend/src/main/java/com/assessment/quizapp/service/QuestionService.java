@@ -1,35 +1,151 @@
 package com.assessment.quizapp.service;
 
+import com.assessment.quizapp.dto.QuestionPageResponse;
 import com.assessment.quizapp.dto.QuestionRequest;
 import com.assessment.quizapp.dto.QuestionResponse;
 import com.assessment.quizapp.entity.Option;
+import com.assessment.quizapp.entity.PurgeTask;
 import com.assessment.quizapp.entity.Question;
 import com.assessment.quizapp.repository.OptionRepository;
+import com.assessment.quizapp.repository.QuestionExportRow;
 import com.assessment.quizapp.repository.QuestionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
 public class QuestionService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private QuestionRepository questionRepository;
 
     @Autowired
     private OptionRepository optionRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private QuestionBankCache questionBankCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PurgeService purgeService;
+
+    public QuestionBankSnapshot getQuestionBank() {
+        return questionBankCache.getSnapshot();
+    }
+
     public List<QuestionResponse> getAllQuestions() {
-        return questionRepository.findAll().stream()
+        return questionRepository.findAllWithOptions().stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns up to {@code size} questions with ids greater than {@code after}.
+     * Ids are selected first and options fetched for just those ids, so the
+     * cost of a page does not depend on how far into the bank it is.
+     */
+    public QuestionPageResponse getQuestionPage(Long after, int size, String filter) {
+        long cursor = after != null ? after : 0L;
+        // One extra id tells us whether there is another page
+        Limit limit = Limit.of(Math.min(Math.max(size, 1), MAX_PAGE_SIZE) + 1);
+
+        boolean filtered = filter != null && !filter.isBlank();
+        List<Long> ids = !filtered
+                ? questionRepository.findIdsAfter(cursor, limit)
+                : questionRepository.findIdsAfterMatching(cursor, likePattern(filter), limit);
+
+        Long nextCursor = null;
+        if (ids.size() == limit.max()) {
+            ids = ids.subList(0, ids.size() - 1);
+            nextCursor = ids.get(ids.size() - 1);
+        }
+
+        List<QuestionResponse> questions = ids.isEmpty()
+                ? List.of()
+                : questionRepository.findAllWithOptionsByIdIn(ids).stream()
+                        .map(this::convertToResponse)
+                        .collect(Collectors.toList());
+
+        // Bank size from the question bank cache instead of a COUNT(*); matches are not counted
+        Integer totalCount = filtered ? null : questionBankCache.getSnapshot().getQuestionCount();
+        return new QuestionPageResponse(questions, nextCursor, totalCount);
+    }
+
+    private static String likePattern(String filter) {
+        String escaped = filter.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Writes every question after {@code after} to {@code out} as NDJSON, one
+     * question with its options per line, in id order. Only the question
+     * being assembled is held in memory, so an interrupted export can be
+     * resumed from the last id received.
+     */
+    @Transactional(readOnly = true)
+    public void exportQuestions(Long after, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(QuestionResponse.class);
+        try (Stream<QuestionExportRow> rows = questionRepository.streamForExport(after != null ? after : 0L)) {
+            QuestionResponse current = null;
+            for (Iterator<QuestionExportRow> it = rows.iterator(); it.hasNext(); ) {
+                QuestionExportRow row = it.next();
+                if (current == null || !current.getId().equals(row.questionId())) {
+                    if (current != null) {
+                        writeLine(writer, current, out);
+                    }
+                    current = new QuestionResponse(row.questionId(), row.questionText(), new ArrayList<>());
+                }
+                if (row.optionId() != null) {
+                    current.getOptions().add(new QuestionResponse.OptionResponse(row.optionId(), row.optionText(), row.isCorrect()));
+                }
+            }
+            if (current != null) {
+                writeLine(writer, current, out);
+            }
+        }
+        out.flush();
+    }
+
+    private static void writeLine(ObjectWriter writer, QuestionResponse question, OutputStream out) throws IOException {
+        out.write(writer.writeValueAsBytes(question));
+        out.write('\n');
+    }
+
+    /**
+     * Loads by id so that both the question and its option list can be
+     * served from the second-level cache.
+     */
+    @Transactional(readOnly = true)
     public QuestionResponse getQuestionById(Long id) {
         Question question = questionRepository.findById(id)
+                .filter(q -> q.getDeletedAt() == null)
                 .orElseThrow(() -> new RuntimeException("Question not found"));
         return convertToResponse(question);
     }
@@ -52,45 +168,86 @@ public class QuestionService {
 
         optionRepository.saveAll(options);
         savedQuestion.setOptions(options);
+        eventPublisher.publishEvent(new QuestionBankChangedEvent(List.of(savedQuestion.getId())));
 
         return convertToResponse(savedQuestion);
     }
 
+    /**
+     * Edits never modify a version attempts may have been graded against.
+     * Options are matched to the current version by id; if anything differs
+     * the current version is retired and a new one inserted, otherwise the
+     * request is a no-op.
+     */
     @Transactional
     public QuestionResponse updateQuestion(Long id, QuestionRequest questionRequest) {
-        Question question = questionRepository.findById(id)
+        Question current = questionRepository.findById(id)
+                .filter(Question::getActive)
                 .orElseThrow(() -> new RuntimeException("Question not found"));
 
-        question.setQuestionText(questionRequest.getQuestionText());
-        Question savedQuestion = questionRepository.save(question);
+        Map<Long, Option> existing = new HashMap<>();
+        for (Option option : current.getOptions()) {
+            existing.put(option.getId(), option);
+        }
 
-        // Delete existing options
-        optionRepository.deleteByQuestionId(id);
+        boolean changed = !Objects.equals(current.getQuestionText(), questionRequest.getQuestionText())
+                || questionRequest.getOptions().size() != current.getOptions().size();
+        for (QuestionRequest.OptionRequest optionRequest : questionRequest.getOptions()) {
+            if (optionRequest.getId() == null) {
+                changed = true;
+                continue;
+            }
+            Option option = existing.remove(optionRequest.getId());
+            if (option == null) {
+                throw new RuntimeException("Option does not belong to question");
+            }
+            if (!Objects.equals(optionRequest.getOptionText(), option.getOptionText())
+                    || Boolean.TRUE.equals(optionRequest.getIsCorrect()) != Boolean.TRUE.equals(option.getIsCorrect())) {
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return convertToResponse(current);
+        }
 
-        // Create new options
-        List<Option> options = questionRequest.getOptions().stream()
+        current.setActive(false);
+        current.setRetiredAt(LocalDateTime.now());
+
+        Question next = new Question(questionRequest.getQuestionText());
+        next.setPreviousVersionId(current.getId());
+        next.setVersionNumber(current.getVersionNumber() + 1);
+        next.setOptions(questionRequest.getOptions().stream()
                 .map(optionRequest -> {
-                    Option option = new Option();
-                    option.setOptionText(optionRequest.getOptionText());
-                    option.setIsCorrect(optionRequest.getIsCorrect());
-                    option.setQuestion(savedQuestion);
+                    Option option = new Option(optionRequest.getOptionText(), Boolean.TRUE.equals(optionRequest.getIsCorrect()));
+                    option.setQuestion(next);
                     return option;
                 })
-                .collect(Collectors.toList());
-
-        optionRepository.saveAll(options);
-        savedQuestion.setOptions(options);
+                .collect(Collectors.toList()));
+        // Options are persisted through the cascade; a retire plus two batched inserts at commit
+        Question savedQuestion = questionRepository.save(next);
+        eventPublisher.publishEvent(new QuestionBankChangedEvent(List.of(current.getId(), savedQuestion.getId())));
 
         return convertToResponse(savedQuestion);
     }
 
+    /**
+     * Soft-deletes the question: it disappears from quizzes and listings at
+     * once, and its versions, options and answers are removed later by the
+     * purger in small chunks. Attempts that answered any version of it keep
+     * their score but lose the review of that question.
+     */
     @Transactional
-    public void deleteQuestion(Long id) {
+    public PurgeTask deleteQuestion(Long id) {
         Question question = questionRepository.findById(id)
+                .filter(Question::getActive)
                 .orElseThrow(() -> new RuntimeException("Question not found"));
-        
-        optionRepository.deleteByQuestionId(id);
-        questionRepository.delete(question);
+
+        LocalDateTime now = LocalDateTime.now();
+        question.setActive(false);
+        question.setRetiredAt(now);
+        question.setDeletedAt(now);
+        eventPublisher.publishEvent(new QuestionBankChangedEvent(List.of(id)));
+        return purgeService.schedule(PurgeTask.TargetType.QUESTION, id);
     }
 
     private QuestionResponse convertToResponse(Question question) {
@@ -102,6 +259,9 @@ public class QuestionService {
                 ))
                 .collect(Collectors.toList());
 
-        return new QuestionResponse(question.getId(), question.getQuestionText(), optionResponses);
+        QuestionResponse response = new QuestionResponse(question.getId(), question.getQuestionText(), optionResponses);
+        response.setActive(question.getActive());
+        response.setVersionNumber(question.getVersionNumber());
+        return response;
     }
 }
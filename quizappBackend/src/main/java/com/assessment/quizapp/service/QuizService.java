@@ -1,24 +1,42 @@
 package com.assessment.quizapp.service;
 
-import com.assessment.quizapp.dto.QuestionResponse;
+import com.assessment.quizapp.dto.LeaderboardResponse;
 import com.assessment.quizapp.dto.QuizResultResponse;
 import com.assessment.quizapp.dto.QuizSubmissionRequest;
+import com.assessment.quizapp.dto.ScorePageResponse;
 import com.assessment.quizapp.dto.ScoreResponse;
+import com.assessment.quizapp.dto.ScoreSummaryResponse;
 import com.assessment.quizapp.entity.*;
+import com.assessment.quizapp.metrics.PhaseTimer;
 import com.assessment.quizapp.repository.*;
+import com.assessment.quizapp.security.JwtPrincipal;
+import com.assessment.quizapp.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class QuizService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Duration MAX_ATTEMPT_DURATION = Duration.ofHours(24);
+
     @Autowired
     private QuestionRepository questionRepository;
 
@@ -34,112 +52,257 @@ public class QuizService {
     @Autowired
     private UserAnswerRepository userAnswerRepository;
 
-    public List<QuestionResponse> startQuiz() {
-        List<Question> questions = questionRepository.findAll();
-        return questions.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    @Autowired
+    private QuestionBankCache questionBankCache;
+
+    @Autowired
+    private ScoreSummaryService scoreSummaryService;
+
+    @Autowired
+    private Leaderboard leaderboard;
+
+    @Autowired
+    private ScoreHistograms scoreHistograms;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private PhaseTimer startTimer;
+    private PhaseTimer submitLoadTimer;
+    private PhaseTimer submitGradeTimer;
+    private PhaseTimer submitPersistTimer;
+
+    @PostConstruct
+    void init() {
+        startTimer = PhaseTimer.of(meterRegistry, "start", "quizapp.quiz.start");
+        submitLoadTimer = PhaseTimer.of(meterRegistry, "load", "quizapp.quiz.submit", "phase", "load");
+        submitGradeTimer = PhaseTimer.of(meterRegistry, "grade", "quizapp.quiz.submit", "phase", "grade");
+        submitPersistTimer = PhaseTimer.of(meterRegistry, "persist", "quizapp.quiz.submit", "phase", "persist");
+    }
+
+    public QuestionBankSnapshot getQuestionBank() {
+        return questionBankCache.getSnapshot();
+    }
+
+    public byte[] startQuiz(QuestionBankSnapshot snapshot, boolean gzip) {
+        return startTimer.record(() -> gzip ? snapshot.getQuizPayload().getGzip() : snapshot.getQuizPayload().getJson());
     }
 
     @Transactional
     public QuizResultResponse submitQuiz(QuizSubmissionRequest submissionRequest) {
-        String username = getCurrentUsername();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        JwtPrincipal principal = getCurrentPrincipal();
+        Long userId = principal.userId();
+        User user = userRepository.getReferenceById(userId);
+        LocalDateTime startedAt = verifiedStartTime(submissionRequest.getStartToken(), userId);
+
+        List<QuizSubmissionRequest.AnswerSubmission> answers = submissionRequest.getAnswers();
+        List<Long> questionIds = new ArrayList<>(answers.size());
+        for (QuizSubmissionRequest.AnswerSubmission answer : answers) {
+            questionIds.add(answer.getQuestionId());
+        }
+        QuestionBankSnapshot snapshot = submitLoadTimer.record(() -> questionBankCache.getSnapshotFor(questionIds, startedAt));
+        GradedSubmission graded = submitGradeTimer.record(() -> grade(snapshot, answers));
+        String questionSet = ScoreHistograms.questionSetOf(questionIds);
+        // Ranked against earlier takers only; this attempt is added once it commits
+        Integer percentile = scoreHistograms.percentileOf(questionSet, graded.score(), answers.size());
+
+        long persistStartedAt = System.nanoTime();
 
-        // Create quiz attempt
         QuizAttempt quizAttempt = new QuizAttempt();
         quizAttempt.setUser(user);
-        quizAttempt.setStartTime(LocalDateTime.now());
+        quizAttempt.setStartTime(startedAt);
         quizAttempt.setEndTime(LocalDateTime.now());
-        quizAttempt.setTotalQuestions(submissionRequest.getAnswers().size());
+        quizAttempt.setTotalQuestions(answers.size());
+        quizAttempt.setScore(graded.score());
+        quizAttempt.setQuestionSet(questionSet);
+
+        // Entities are only referenced by id, never loaded
+        List<UserAnswer> userAnswers = new ArrayList<>(answers.size());
+        for (QuizResultResponse.QuestionResult result : graded.questionResults()) {
+            userAnswers.add(new UserAnswer(
+                    quizAttempt,
+                    questionRepository.getReferenceById(result.getQuestionId()),
+                    result.getSelectedOptionId() != null ? optionRepository.getReferenceById(result.getSelectedOptionId()) : null,
+                    result.getIsCorrect()
+            ));
+        }
+
+        // Sequence-backed ids let the attempt and its answers go out as batched inserts at commit
         QuizAttempt savedAttempt = quizAttemptRepository.save(quizAttempt);
+        userAnswerRepository.saveAll(userAnswers);
+        // Last, so the summary row stays locked only for the flush and commit
+        scoreSummaryService.recordAttempt(userId, graded.score(), answers.size(), savedAttempt.getEndTime());
+        // Flush here rather than at commit so the inserts count towards the persist phase
+        userAnswerRepository.flush();
+        submitPersistTimer.record(System.nanoTime() - persistStartedAt);
 
-        final int[] score = {0};
-        List<QuizResultResponse.QuestionResult> questionResults = submissionRequest.getAnswers().stream()
-                .map(answerSubmission -> {
-                    Question question = questionRepository.findById(answerSubmission.getQuestionId())
-                            .orElseThrow(() -> new RuntimeException("Question not found"));
-
-                    Option selectedOption = null;
-                    if (answerSubmission.getSelectedOptionId() != null) {
-                        selectedOption = optionRepository.findById(answerSubmission.getSelectedOptionId())
-                                .orElse(null);
-                    }
-
-                    // Create user answer
-                    UserAnswer userAnswer = new UserAnswer(savedAttempt, question, selectedOption);
-                    userAnswerRepository.save(userAnswer);
-
-                    // Check if answer is correct
-                    boolean isCorrect = selectedOption != null && selectedOption.getIsCorrect();
-                    if (isCorrect) {
-                        score[0]++;
-                    }
-
-                    // Convert options for response
-                    List<QuizResultResponse.QuestionResult.OptionResult> optionResults = question.getOptions().stream()
-                            .map(option -> new QuizResultResponse.QuestionResult.OptionResult(
-                                    option.getId(),
-                                    option.getOptionText(),
-                                    option.getIsCorrect()
-                            ))
-                            .collect(Collectors.toList());
-
-                    return new QuizResultResponse.QuestionResult(
-                            question.getId(),
-                            question.getQuestionText(),
-                            optionResults,
-                            selectedOption != null ? selectedOption.getId() : null,
-                            isCorrect
-                    );
-                })
-                .collect(Collectors.toList());
-
-        // Update quiz attempt with score
-        savedAttempt.setScore(score[0]);
-        quizAttemptRepository.save(savedAttempt);
+        // Applied to the leaderboard, answer analytics and score histograms once the attempt has committed
+        eventPublisher.publishEvent(new QuizSubmittedEvent(savedAttempt.getId(), userId, principal.username(),
+                graded.score(), savedAttempt.getTotalQuestions(), questionSet,
+                savedAttempt.getStartTime(), savedAttempt.getEndTime(), graded.questionResults()));
 
         return new QuizResultResponse(
                 savedAttempt.getId(),
-                score[0],
+                graded.score(),
                 savedAttempt.getTotalQuestions(),
                 savedAttempt.getEndTime(),
-                questionResults
+                percentile,
+                graded.questionResults()
         );
     }
 
+    /**
+     * Validates and grades the answers against the snapshot's answer key
+     * without touching the database.
+     */
+    private static GradedSubmission grade(QuestionBankSnapshot bank, List<QuizSubmissionRequest.AnswerSubmission> answers) {
+        AnswerKey answerKey = bank.getAnswerKey();
+
+        int score = 0;
+        List<QuizResultResponse.QuestionResult> questionResults = new ArrayList<>(answers.size());
+        boolean[] answered = new boolean[answerKey.getQuestionCount()];
+        for (QuizSubmissionRequest.AnswerSubmission answerSubmission : answers) {
+            if (answerSubmission.getQuestionId() == null) {
+                throw new RuntimeException("Question not found");
+            }
+            long questionId = answerSubmission.getQuestionId();
+            int questionIndex = answerKey.questionIndex(questionId);
+            if (questionIndex < 0) {
+                throw new RuntimeException("Question not found");
+            }
+            // Otherwise one correct answer sent N times would score N
+            if (answered[questionIndex]) {
+                throw new RuntimeException("Question answered more than once");
+            }
+            answered[questionIndex] = true;
+
+            Long selectedOptionId = answerSubmission.getSelectedOptionId();
+            boolean isCorrect = false;
+            if (selectedOptionId != null) {
+                if (answerKey.questionOf(selectedOptionId) != questionId) {
+                    throw new RuntimeException("Option does not belong to question");
+                }
+                isCorrect = answerKey.isCorrect(selectedOptionId);
+            }
+            if (isCorrect) {
+                score++;
+            }
+
+            QuizResultResponse.QuestionResult review = bank.getReviewQuestion(questionIndex);
+            questionResults.add(new QuizResultResponse.QuestionResult(
+                    review.getQuestionId(),
+                    review.getQuestionText(),
+                    review.getOptions(),
+                    selectedOptionId,
+                    isCorrect
+            ));
+        }
+        return new GradedSubmission(score, questionResults);
+    }
+
+    private record GradedSubmission(int score, List<QuizResultResponse.QuestionResult> questionResults) {}
+
     public List<ScoreResponse> getUserScores() {
-        String username = getCurrentUsername();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<QuizAttempt> attempts = quizAttemptRepository.findByUserIdOrderByStartTimeDesc(user.getId());
-        return attempts.stream()
-                .map(attempt -> new ScoreResponse(
-                        attempt.getId(),
-                        attempt.getScore(),
-                        attempt.getTotalQuestions(),
-                        attempt.getStartTime(),
-                        attempt.getEndTime()
-                ))
-                .collect(Collectors.toList());
+        return quizAttemptRepository.findScoresByUserId(getCurrentUserId(), Limit.unlimited());
     }
 
-    private String getCurrentUsername() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+    public ScoreSummaryResponse getScoreSummary() {
+        return scoreSummaryService.getSummary(getCurrentUserId());
+    }
+
+    /**
+     * Returns up to {@code size} attempts older than the cursor, newest
+     * first. The cursor is the (startTime, id) of the last row sent, so each
+     * page is an index seek no matter how long the history is.
+     */
+    public ScorePageResponse getScorePage(String cursor, int size) {
+        Long userId = getCurrentUserId();
+        // One extra row tells us whether there is another page
+        Limit limit = Limit.of(Math.min(Math.max(size, 1), MAX_PAGE_SIZE) + 1);
+
+        List<ScoreResponse> scores;
+        if (cursor == null || cursor.isBlank()) {
+            scores = quizAttemptRepository.findScoresByUserId(userId, limit);
+        } else {
+            ScoreCursor after = ScoreCursor.decode(cursor);
+            scores = quizAttemptRepository.findScoresByUserIdBefore(userId, after.startTime(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (scores.size() == limit.max()) {
+            scores = scores.subList(0, scores.size() - 1);
+            ScoreResponse last = scores.get(scores.size() - 1);
+            nextCursor = new ScoreCursor(last.getStartTime(), last.getQuizAttemptId()).encode();
+        }
+        return new ScorePageResponse(scores, nextCursor);
+    }
+
+    record ScoreCursor(LocalDateTime startTime, Long id) {
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((startTime + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ScoreCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('_');
+                return new ScoreCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.valueOf(decoded.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
+    /**
+     * Signed proof of when the current user started a quiz, handed back on
+     * submit. Valid for {@link #MAX_ATTEMPT_DURATION}.
+     */
+    public String issueStartToken() {
+        Instant now = Instant.now();
+        return jwtUtil.generateQuizStartToken(getCurrentUserId(), now, now.plus(MAX_ATTEMPT_DURATION));
+    }
+
+    private LocalDateTime verifiedStartTime(String startToken, Long userId) {
+        if (startToken == null) {
+            throw new RuntimeException("Quiz was not started");
+        }
+        try {
+            return LocalDateTime.ofInstant(jwtUtil.parseQuizStartToken(startToken, userId), ZoneId.systemDefault());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new RuntimeException("Quiz was not started");
+        }
     }
 
-    private QuestionResponse convertToResponse(Question question) {
-        List<QuestionResponse.OptionResponse> optionResponses = question.getOptions().stream()
-                .map(option -> new QuestionResponse.OptionResponse(
-                        option.getId(),
-                        option.getOptionText(),
-                        null // Don't reveal correct answers during quiz
-                ))
-                .collect(Collectors.toList());
+    public LeaderboardResponse getLeaderboard(int limit) {
+        List<LeaderboardResponse.Entry> top = new ArrayList<>();
+        int rank = 1;
+        for (LeaderboardEntry entry : leaderboard.top(Math.min(Math.max(limit, 1), MAX_PAGE_SIZE))) {
+            top.add(toLeaderboardEntry(rank++, entry));
+        }
+        Leaderboard.Standing standing = leaderboard.standingOf(getCurrentUserId());
+        LeaderboardResponse.Entry me = standing != null ? toLeaderboardEntry(standing.rank(), standing.entry()) : null;
+        return new LeaderboardResponse(top, me, leaderboard.size());
+    }
+
+    private static LeaderboardResponse.Entry toLeaderboardEntry(int rank, LeaderboardEntry entry) {
+        return new LeaderboardResponse.Entry(rank, entry.username(), entry.score(), entry.totalQuestions(),
+                entry.durationMillis(), entry.completedAt());
+    }
 
-        return new QuestionResponse(question.getId(), question.getQuestionText(), optionResponses);
+    private Long getCurrentUserId() {
+        return getCurrentPrincipal().userId();
+    }
+
+    private JwtPrincipal getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (JwtPrincipal) authentication.getPrincipal();
     }
 }
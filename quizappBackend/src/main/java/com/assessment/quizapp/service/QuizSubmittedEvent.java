@@ -0,0 +1,68 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.dto.QuizResultResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class QuizSubmittedEvent {
+    private final Long attemptId;
+    private final Long userId;
+    private final String username;
+    private final int score;
+    private final int totalQuestions;
+    private final String questionSet;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final List<QuizResultResponse.QuestionResult> questionResults;
+
+    public QuizSubmittedEvent(Long attemptId, Long userId, String username, int score, int totalQuestions,
+                              String questionSet, LocalDateTime startTime, LocalDateTime endTime,
+                              List<QuizResultResponse.QuestionResult> questionResults) {
+        this.attemptId = attemptId;
+        this.userId = userId;
+        this.username = username;
+        this.score = score;
+        this.totalQuestions = totalQuestions;
+        this.questionSet = questionSet;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.questionResults = questionResults;
+    }
+
+    public Long getAttemptId() {
+        return attemptId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public String getQuestionSet() {
+        return questionSet;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public List<QuizResultResponse.QuestionResult> getQuestionResults() {
+        return questionResults;
+    }
+}
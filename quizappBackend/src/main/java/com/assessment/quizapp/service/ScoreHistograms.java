@@ -0,0 +1,228 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.entity.ScoreHistogram;
+import com.assessment.quizapp.repository.AttemptScoreRow;
+import com.assessment.quizapp.repository.QuizAttemptRepository;
+import com.assessment.quizapp.repository.ScoreHistogramRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Score distribution per question set, bucketed by whole percentage points,
+ * so "better than N% of takers" is a sum over 101 buckets in memory rather
+ * than a count over quiz_attempts. A background flush adds the attempts
+ * counted since the previous one to score_histograms and marks them
+ * recorded in the same transaction; on startup the stored counts are read
+ * back and attempts not recorded yet, or all of them on a cold start, are
+ * replayed from quiz_attempts. Attempts are claimed under a row lock, so
+ * with several app instances each one is added exactly once. An instance
+ * only sees other instances' attempts after a restart.
+ * <p>
+ * Sets are keyed on question ids, and editing a question gives it a new id,
+ * so the first attempt after an edit starts a fresh histogram for that set
+ * with no earlier takers. That is deliberate: an edited question may be
+ * harder or easier, and scores against the old wording don't compare.
+ */
+@Service
+public class ScoreHistograms {
+
+    static final int BUCKETS = 101;
+
+    // Attempts claimed per flush transaction, so the IN lists stay bounded
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreHistograms.class);
+
+    @Autowired
+    private ScoreHistogramRepository scoreHistogramRepository;
+
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    // Attempts counted in memory but not yet recorded in score_histograms
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    // A lock rather than synchronized so virtual threads don't pin their carrier during JDBC
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Identifies a set of questions regardless of the order they were
+     * answered in. Callers must have rejected repeated ids already.
+     */
+    public static String questionSetOf(Collection<Long> questionIds) {
+        long[] sorted = questionIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        ByteBuffer buffer = ByteBuffer.allocate(sorted.length * Long.BYTES);
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("Question " + sorted[i] + " appears more than once");
+            }
+            buffer.putLong(sorted[i]);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 18));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static int bucketOf(int score, int totalQuestions) {
+        return totalQuestions > 0 ? Math.clamp(score * 100L / totalQuestions, 0, BUCKETS - 1) : 0;
+    }
+
+    // Before the server takes requests, so no submission can be both replayed and recorded live
+    @PostConstruct
+    void load() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            for (ScoreHistogram row : scoreHistogramRepository.findAll()) {
+                histogram(row.getQuestionSet()).add(row.getCounts());
+            }
+            for (AttemptScoreRow row : quizAttemptRepository.findUnrecordedScores()) {
+                count(row.attemptId(), row.questionSet(), bucketOf(row.score(), row.totalQuestions()));
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onQuizSubmitted(QuizSubmittedEvent event) {
+        count(event.getAttemptId(), event.getQuestionSet(), bucketOf(event.getScore(), event.getTotalQuestions()));
+    }
+
+    private void count(Long attemptId, String questionSet, int bucket) {
+        histogram(questionSet).add(bucket, 1);
+        pending.put(attemptId, new Pending(questionSet, bucket));
+    }
+
+    /**
+     * Share of earlier attempts at the same question set that scored lower,
+     * as a whole percentage, or null if nobody has taken it before.
+     */
+    public Integer percentileOf(String questionSet, int score, int totalQuestions) {
+        Histogram histogram = histograms.get(questionSet);
+        return histogram != null ? histogram.percentileOf(bucketOf(score, totalQuestions)) : null;
+    }
+
+    @Scheduled(fixedDelayString = "${histograms.flush-interval-ms:30000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        List<Long> attemptIds = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < attemptIds.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = attemptIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, attemptIds.size()));
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> record(chunk));
+            // Only once committed; attempts another instance recorded first are dropped too
+            chunk.forEach(pending::remove);
+        }
+    }
+
+    private void record(List<Long> attemptIds) {
+        // Attempts purged since they were counted are simply not returned
+        List<Long> claimed = quizAttemptRepository.findUnrecordedIdsForUpdate(attemptIds);
+        if (claimed.isEmpty()) {
+            return;
+        }
+        Map<String, long[]> deltas = new HashMap<>();
+        for (Long attemptId : claimed) {
+            Pending attempt = pending.get(attemptId);
+            deltas.computeIfAbsent(attempt.questionSet(), key -> new long[BUCKETS])[attempt.bucket()]++;
+        }
+
+        Map<String, ScoreHistogram> rows = new HashMap<>();
+        scoreHistogramRepository.findForUpdate(deltas.keySet()).forEach(row -> rows.put(row.getQuestionSet(), row));
+        deltas.forEach((questionSet, delta) -> {
+            ScoreHistogram row = rows.get(questionSet);
+            if (row == null) {
+                row = new ScoreHistogram(questionSet, BUCKETS);
+                row.add(delta);
+                entityManager.persist(row);
+            } else {
+                row.add(delta);
+            }
+        });
+        quizAttemptRepository.markHistogramRecorded(claimed);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush score histograms on shutdown", e);
+        }
+    }
+
+    private Histogram histogram(String questionSet) {
+        Histogram histogram = histograms.get(questionSet);
+        return histogram != null ? histogram : histograms.computeIfAbsent(questionSet, key -> new Histogram());
+    }
+
+    private record Pending(String questionSet, int bucket) {}
+
+    private static final class Histogram {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        void add(int bucket, long count) {
+            counts.addAndGet(bucket, count);
+        }
+
+        void add(long[] bucketCounts) {
+            for (int i = 0; i < Math.min(bucketCounts.length, BUCKETS); i++) {
+                counts.addAndGet(i, bucketCounts[i]);
+            }
+        }
+
+        Integer percentileOf(int bucket) {
+            long below = 0;
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                long count = counts.get(i);
+                if (i < bucket) {
+                    below += count;
+                }
+                total += count;
+            }
+            return total > 0 ? (int) (below * 100 / total) : null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.dto.ScoreSummaryResponse;
+import com.assessment.quizapp.entity.UserScoreSummary;
+import com.assessment.quizapp.repository.UserScoreSummaryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Service
+public class ScoreSummaryService {
+
+    @Autowired
+    private UserScoreSummaryRepository userScoreSummaryRepository;
+
+    // The id is assigned, so persist directly; save() would merge and read the row first
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Creates the empty summary at signup, so submissions only ever need to
+     * lock an existing row.
+     */
+    @Transactional
+    public void createFor(Long userId) {
+        entityManager.persist(new UserScoreSummary(userId));
+    }
+
+    /**
+     * Applies a new attempt to the user's summary. Runs inside the
+     * submitting transaction, so the summary and the attempt commit together.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAttempt(Long userId, int score, int totalQuestions, LocalDateTime completedAt) {
+        // Users created before summaries existed get theirs on first submission
+        UserScoreSummary summary = userScoreSummaryRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (summary == null) {
+            summary = new UserScoreSummary(userId);
+            summary.recordAttempt(score, totalQuestions, completedAt);
+            entityManager.persist(summary);
+            return;
+        }
+        summary.recordAttempt(score, totalQuestions, completedAt);
+    }
+
+    public ScoreSummaryResponse getSummary(Long userId) {
+        UserScoreSummary summary = userScoreSummaryRepository.findById(userId)
+                .orElseGet(() -> new UserScoreSummary(userId));
+        return new ScoreSummaryResponse(summary, LocalDate.now());
+    }
+}
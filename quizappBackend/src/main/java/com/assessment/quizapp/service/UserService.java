@@ -0,0 +1,44 @@
+package com.assessment.quizapp.service;
+
+import com.assessment.quizapp.entity.PurgeTask;
+import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.repository.UserRepository;
+import com.assessment.quizapp.security.TokenVersionRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+public class UserService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private PurgeService purgeService;
+
+    @Autowired
+    private Leaderboard leaderboard;
+
+    /**
+     * Soft-deletes the user: login is refused and every issued token is
+     * revoked straight away, while their attempts and answers are removed
+     * later by the purger in small chunks.
+     */
+    @Transactional
+    public PurgeTask deleteUser(Long id) {
+        User user = userRepository.findById(id)
+                .filter(u -> u.getDeletedAt() == null)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        user.setDeletedAt(LocalDateTime.now());
+        tokenVersionRegistry.revoke(id);
+        leaderboard.removeUser(id);
+        return purgeService.schedule(PurgeTask.TargetType.USER, id);
+    }
+}
@@ -0,0 +1,179 @@
+package com.assessment.quizapp.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted list with O(log n) insert, remove, rank and access by rank. Each
+ * link records how many elements it skips, as in Redis sorted sets, so the
+ * position of an element is summed up on the way down.
+ * <p>
+ * Elements must be distinct under the comparator. Not thread-safe; callers
+ * guard it with their own lock.
+ */
+public class IndexableSkipList<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super T> comparator;
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    public IndexableSkipList(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(T value) {
+        @SuppressWarnings("unchecked")
+        Node<T>[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node<T> node = new Node<>(value, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Removes the element equal to {@code value} under the comparator.
+     * Returns false if there is none.
+     */
+    public boolean remove(T value) {
+        @SuppressWarnings("unchecked")
+        Node<T>[] update = new Node[MAX_LEVEL];
+
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node<T> target = x.next[0];
+        if (target == null || comparator.compare(target.value, value) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the 1-based position of the element equal to {@code value}, or
+     * 0 if there is none.
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && comparator.compare(x.value, value) == 0) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns up to {@code count} elements starting at the 1-based
+     * {@code fromRank}.
+     */
+    public List<T> range(int fromRank, int count) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(count, size - fromRank + 1)));
+        Node<T> x = nodeAt(fromRank);
+        while (x != null && result.size() < count) {
+            result.add(x.value);
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    private Node<T> nodeAt(int rank) {
+        if (rank < 1 || rank > size) {
+            return null;
+        }
+        int traversed = 0;
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private static int randomLevel() {
+        // Each level is kept with probability 1/4
+        int level = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (level < MAX_LEVEL && random.nextInt(4) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final Node<T>[] next;
+        final int[] span;
+
+        @SuppressWarnings("unchecked")
+        Node(T value, int level) {
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
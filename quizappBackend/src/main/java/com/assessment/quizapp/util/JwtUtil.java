@@ -1,57 +1,98 @@
 package com.assessment.quizapp.util;
 
+import com.assessment.quizapp.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 
 @Component
 public class JwtUtil {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    public static final String CLAIM_QUIZ_STARTED_AT = "qst";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    private SecretKey signingKey;
+
+    private JwtParser parser;
+
+    // Quiz start tokens get their own key so they can never pass as login tokens, or the other way round
+    private SecretKey quizStartKey;
+
+    private JwtParser quizStartParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        quizStartKey = Keys.hmacShaKeyFor((secret + ":quiz-start").getBytes());
+        quizStartParser = Jwts.parserBuilder()
+                .setSigningKey(quizStartKey)
+                .build();
     }
 
-    public String generateToken(String username) {
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-                .setSubject(username)
+                .setSubject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifies the token signature and expiry and returns its claims.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
 
-        return claims.getSubject();
+    /**
+     * Records, signed, when the user started a quiz, so the attempt's
+     * duration can be taken from the server's clock rather than the client's.
+     */
+    public String generateQuizStartToken(Long userId, Instant startedAt, Instant expiresAt) {
+        return Jwts.builder()
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_QUIZ_STARTED_AT, startedAt.toEpochMilli())
+                .setExpiration(Date.from(expiresAt))
+                .signWith(quizStartKey)
+                .compact();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    /**
+     * Returns when the quiz was started.
+     *
+     * @throws JwtException if the token is invalid, expired or was issued to another user
+     */
+    public Instant parseQuizStartToken(String token, Long userId) {
+        Claims claims = quizStartParser.parseClaimsJws(token).getBody();
+        if (!userId.equals(claims.get(CLAIM_USER_ID, Long.class))) {
+            throw new JwtException("Quiz start token belongs to another user");
         }
+        return Instant.ofEpochMilli(claims.get(CLAIM_QUIZ_STARTED_AT, Long.class));
     }
 }
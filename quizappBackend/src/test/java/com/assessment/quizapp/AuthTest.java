@@ -0,0 +1,112 @@
+package com.assessment.quizapp;
+
+import com.assessment.quizapp.entity.User;
+import com.assessment.quizapp.repository.UserRepository;
+import com.assessment.quizapp.security.PasswordHasher;
+import com.assessment.quizapp.support.ApiTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Login, signup and token revocation. The shared test configuration gives
+ * the password hashing pool one hashing thread and one queue slot, with a
+ * fixed cost high enough that a hash is still running while the next
+ * requests arrive.
+ */
+class AuthTest extends ApiTestSupport {
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loginIsRejectedWith429WhenTheHashingPoolIsFull() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            // One login hashing, then one waiting in the queue behind it
+            List<Future<Integer>> inFlight = new ArrayList<>();
+            inFlight.add(clients.submit(() -> loginStatus("user", "user123")));
+            Thread.sleep(100);
+            inFlight.add(clients.submit(() -> loginStatus("user", "user123")));
+            while (passwordHasher.getQueueDepth() < 1) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(429, loginStatus("user", "user123"));
+            for (Future<Integer> login : inFlight) {
+                assertEquals(200, login.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void loginRehashesAPasswordStoredWithAnOutdatedCost() throws Exception {
+        String outdated = new BCryptPasswordEncoder(4).encode("secret123");
+        userRepository.save(new User("rehash", "rehash@quiz.com", outdated, User.Role.USER));
+        assertTrue(passwordHasher.needsRehash(outdated));
+
+        assertEquals(200, loginStatus("rehash", "secret123"));
+
+        String rehashed = userRepository.findByUsername("rehash").orElseThrow().getPassword();
+        assertTrue(rehashed.startsWith("$2a$" + passwordHasher.getStrength() + "$"), rehashed);
+        assertEquals(200, loginStatus("rehash", "secret123"));
+    }
+
+    @Test
+    void tokenIssuedBeforeRevokeTokensIsRejectedAfterwards() throws Exception {
+        JsonNode signup = signup("revoked-");
+        String userToken = signup.get("token").asText();
+        assertEquals(200, getScores(userToken));
+
+        String adminToken = login("admin", "admin123");
+        assertEquals(200, mockMvc.perform(post("/api/users/" + signup.get("userId").asLong() + "/revoke-tokens")
+                .header("Authorization", bearer(adminToken))).andReturn().getResponse().getStatus());
+
+        assertEquals(403, getScores(userToken));
+        assertEquals(200, getScores(login(signup.get("username").asText(), "secret123")));
+    }
+
+    @Test
+    void revokeThatCommitsWhileLoginIsHashingIsNotUndone() throws Exception {
+        JsonNode signup = signup("racing-");
+        String adminToken = login("admin", "admin123");
+
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> login = clients.submit(() -> login(signup.get("username").asText(), "secret123"));
+            // The user has been looked up and the password is being hashed
+            Thread.sleep(100);
+            assertEquals(200, mockMvc.perform(post("/api/users/" + signup.get("userId").asLong() + "/revoke-tokens")
+                    .header("Authorization", bearer(adminToken))).andReturn().getResponse().getStatus());
+
+            assertEquals(403, getScores(login.get()));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private int getScores(String token) throws Exception {
+        return mockMvc.perform(get("/api/scores").header("Authorization", bearer(token)))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private int loginStatus(String username, String password) throws Exception {
+        return loginRequest(username, password).getResponse().getStatus();
+    }
+}
@@ -0,0 +1,117 @@
+package com.assessment.quizapp;
+
+import com.assessment.quizapp.controller.QuizController;
+import com.assessment.quizapp.service.PurgeService;
+import com.assessment.quizapp.support.ApiTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Purges run by hand here: the shared test configuration pushes the
+ * scheduler out of the way, sets the grace period to zero and purges one
+ * row per chunk.
+ */
+class PurgeServiceTest extends ApiTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PurgeService purgeService;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void logIn() throws Exception {
+        adminToken = login("admin", "admin123");
+        userToken = login("user", "user123");
+    }
+
+    @Test
+    void deletedQuestionLosesItsVersionsOptionsAndAnswers() throws Exception {
+        long original = createQuestion(adminToken, "Which question is answered and then deleted?");
+        submitFirstOptions();
+        long edited = editQuestion(original, "Which question is answered, edited and then deleted?");
+        submitFirstOptions();
+        assertEquals(2, count("user_answers", List.of(original, edited)));
+
+        long taskId = deleteQuestion(edited);
+        purgeService.runPendingTasks();
+
+        assertEquals("DONE", taskStatus(taskId));
+        assertEquals(0, count("user_answers", List.of(original, edited)));
+        assertEquals(0, count("options", List.of(original, edited)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM questions WHERE id IN (?, ?)", Integer.class, original, edited));
+    }
+
+    @Test
+    void runningTaskIsResumedAfterARestart() throws Exception {
+        long questionId = createQuestion(adminToken, "Which question was being purged when the app stopped?");
+        submitFirstOptions();
+        submitFirstOptions();
+        long taskId = deleteQuestion(questionId);
+
+        // As left by a run that died after the first chunk of answers
+        jdbcTemplate.update("DELETE FROM user_answers WHERE id = (SELECT MIN(id) FROM user_answers WHERE question_id = ?)", questionId);
+        jdbcTemplate.update("UPDATE purge_tasks SET status = 'RUNNING', phase = 'user_answers', rows_deleted = 1 WHERE id = ?", taskId);
+
+        purgeService.runPendingTasks();
+
+        assertEquals("DONE", taskStatus(taskId));
+        assertEquals(0, count("user_answers", List.of(questionId)));
+        assertEquals(0, count("options", List.of(questionId)));
+    }
+
+    private int count(String table, List<Long> questionIds) {
+        String placeholders = String.join(", ", questionIds.stream().map(id -> "?").toList());
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE question_id IN (" + placeholders + ")",
+                Integer.class, questionIds.toArray());
+    }
+
+    private String taskStatus(long taskId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM purge_tasks WHERE id = ?", String.class, taskId);
+    }
+
+    private long editQuestion(long id, String text) throws Exception {
+        return body(mockMvc.perform(put("/api/questions/" + id)
+                .header("Authorization", bearer(adminToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(questionJson(text))).andReturn()).get("id").asLong();
+    }
+
+    private long deleteQuestion(long id) throws Exception {
+        MvcResult result = mockMvc.perform(delete("/api/questions/" + id).header("Authorization", bearer(adminToken))).andReturn();
+        assertEquals(202, result.getResponse().getStatus());
+        return body(result).get("id").asLong();
+    }
+
+    private void submitFirstOptions() throws Exception {
+        MvcResult start = mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(userToken))).andReturn();
+        List<Map<String, Object>> answers = new ArrayList<>();
+        for (JsonNode question : body(start)) {
+            answers.add(Map.of("questionId", question.get("id").asLong(),
+                    "selectedOptionId", question.get("options").get(0).get("id").asLong()));
+        }
+        assertEquals(200, mockMvc.perform(post("/api/quiz/submit")
+                .header("Authorization", bearer(userToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of(
+                        "answers", answers,
+                        "startToken", start.getResponse().getHeader(QuizController.START_TOKEN_HEADER)))))
+                .andReturn().getResponse().getStatus());
+    }
+}
@@ -0,0 +1,531 @@
+package com.assessment.quizapp;
+
+import com.assessment.quizapp.controller.QuizController;
+import com.assessment.quizapp.entity.ScoreHistogram;
+import com.assessment.quizapp.repository.QuizAttemptRepository;
+import com.assessment.quizapp.repository.ScoreHistogramRepository;
+import com.assessment.quizapp.service.AnswerAnalytics;
+import com.assessment.quizapp.service.QuestionBankCache;
+import com.assessment.quizapp.service.QuestionBankSnapshot;
+import com.assessment.quizapp.service.ScoreHistograms;
+import com.assessment.quizapp.support.ApiTestSupport;
+import com.assessment.quizapp.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * SQL statement budgets per endpoint. A failing budget usually means a new
+ * lazy load or per-row query; the failure message lists the statements.
+ */
+class QueryBudgetTest extends ApiTestSupport {
+
+    private static final int LOGIN_BUDGET = 1;
+    // Existence checks, user insert, empty score summary insert
+    private static final int SIGNUP_BUDGET = 4;
+    private static final int START_QUIZ_BUDGET = 2;
+    // Conditional GET with the current bank version
+    private static final int NOT_MODIFIED_BUDGET = 0;
+    // Sequence calls are amortised over the allocation size; inserts are batched; the summary is locked and updated
+    private static final int SUBMIT_QUIZ_BUDGET = 7;
+    private static final int SCORES_BUDGET = 1;
+    private static final int SCORE_PAGE_BUDGET = 1;
+    private static final int SCORE_SUMMARY_BUDGET = 1;
+    // Served from memory
+    private static final int LEADERBOARD_BUDGET = 0;
+    private static final int LIST_QUESTIONS_BUDGET = 1;
+    private static final int GET_QUESTION_BUDGET = 1;
+    // Ids for the page, then options for just those ids
+    private static final int QUESTION_PAGE_BUDGET = 2;
+    private static final int EXPORT_QUESTIONS_BUDGET = 1;
+    // For 40 questions with 160 options: a sequence call per 50 ids, one batched insert per table, one bank rebuild
+    private static final int IMPORT_QUESTIONS_BUDGET = 8;
+    // One batched insert per table, up to two sequence calls, one query to reload the new question for the bank
+    private static final int CREATE_QUESTION_BUDGET = 5;
+    // Copy-on-write edit: load, retire the old version, insert the new one and its options, up to two sequence calls, reload both versions for the bank
+    private static final int UPDATE_QUESTION_BUDGET = 7;
+    // Load, soft-delete, queue the purge, reload it for the bank; answers and options are purged in the background
+    private static final int DELETE_QUESTION_BUDGET = 4;
+    private static final int REVOKE_TOKENS_BUDGET = 1;
+    // Load, soft-delete, bump the token version, queue the purge
+    private static final int DELETE_USER_BUDGET = 4;
+    // Flushed question and option totals; counts since the last flush come from memory
+    private static final int ANSWER_ANALYTICS_BUDGET = 2;
+
+    @Autowired
+    private AnswerAnalytics answerAnalytics;
+
+    @Autowired
+    private ScoreHistograms scoreHistograms;
+
+    @Autowired
+    private QuestionBankCache questionBankCache;
+
+    @Autowired
+    private ScoreHistogramRepository scoreHistogramRepository;
+
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private String userToken;
+    private String adminToken;
+
+    @BeforeEach
+    void logIn() throws Exception {
+        userToken = login("user", "user123");
+        adminToken = login("admin", "admin123");
+        // The first request with a token loads its version; budgets measure the steady state
+        for (String token : List.of(userToken, adminToken)) {
+            mockMvc.perform(get("/api/scores").header("Authorization", bearer(token)));
+        }
+    }
+
+    @Test
+    void login() throws Exception {
+        assertWithinBudget(LOGIN_BUDGET, post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("username", "user", "password", "user123"))));
+    }
+
+    @Test
+    void signup() throws Exception {
+        String username = "budget-" + UUID.randomUUID().toString().substring(0, 8);
+        assertWithinBudget(SIGNUP_BUDGET, post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("username", username, "email", username + "@quiz.com", "password", "secret123"))));
+    }
+
+    @Test
+    void startQuizDoesNotGrowWithTheBank() throws Exception {
+        int before = assertWithinBudget(START_QUIZ_BUDGET, get("/api/quiz/start").header("Authorization", bearer(userToken)));
+        for (int i = 0; i < 20; i++) {
+            createQuestion(adminToken, "Extra budget question number " + i);
+        }
+        int after = assertWithinBudget(START_QUIZ_BUDGET, get("/api/quiz/start").header("Authorization", bearer(userToken)));
+        assertEquals(before, after, "start quiz statement count changed with bank size");
+    }
+
+    @Test
+    void unchangedBankIsNotResent() throws Exception {
+        for (String path : List.of("/api/quiz/start", "/api/questions", "/api/questions/page?size=2")) {
+            String token = path.startsWith("/api/quiz") ? userToken : adminToken;
+            MvcResult first = mockMvc.perform(get(path).header("Authorization", bearer(token))).andReturn();
+            String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotNull(eTag, () -> path + " sent no ETag");
+
+            MvcResult revalidated = mockMvc.perform(get(path)
+                    .header("Authorization", bearer(token))
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+            assertEquals(HttpStatus.NOT_MODIFIED.value(), revalidated.getResponse().getStatus(), path);
+            assertWithinBudget(NOT_MODIFIED_BUDGET, get(path)
+                    .header("Authorization", bearer(token))
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag));
+        }
+
+        MvcResult gzipped = mockMvc.perform(get("/api/quiz/start")
+                .header("Authorization", bearer(userToken))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")).andReturn();
+        assertEquals("gzip", gzipped.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        String before = mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(userToken)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, gzipped.getResponse().getHeader(HttpHeaders.ETAG), "gzip and identity share an ETag");
+        createQuestion(adminToken, "Does a new question change the bank version?");
+        MvcResult changed = mockMvc.perform(get("/api/quiz/start")
+                .header("Authorization", bearer(userToken))
+                .header(HttpHeaders.IF_NONE_MATCH, before)).andReturn();
+        assertEquals(HttpStatus.OK.value(), changed.getResponse().getStatus());
+    }
+
+    @Test
+    void submitQuiz() throws Exception {
+        assertWithinBudget(SUBMIT_QUIZ_BUDGET, submitRequest(userToken));
+    }
+
+    @Test
+    void scores() throws Exception {
+        assertWithinBudget(SCORES_BUDGET, get("/api/scores").header("Authorization", bearer(userToken)));
+    }
+
+    @Test
+    void scorePagesFollowTheCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            submitFirstOptions(userToken);
+        }
+        JsonNode first = body(mockMvc.perform(get("/api/scores/page?size=2").header("Authorization", bearer(userToken))).andReturn());
+        String cursor = first.get("nextCursor").asText();
+        assertWithinBudget(SCORE_PAGE_BUDGET, get("/api/scores/page?size=2&cursor=" + cursor).header("Authorization", bearer(userToken)));
+
+        JsonNode second = body(mockMvc.perform(get("/api/scores/page?size=2&cursor=" + cursor)
+                .header("Authorization", bearer(userToken))).andReturn());
+        long lastOnFirstPage = first.get("scores").get(1).get("quizAttemptId").asLong();
+        for (JsonNode score : second.get("scores")) {
+            assertNotEquals(lastOnFirstPage, score.get("quizAttemptId").asLong(), "pages overlap");
+        }
+    }
+
+    @Test
+    void scoreSummaryIsMaintainedOnSubmit() throws Exception {
+        String token = signup("summary-").get("token").asText();
+        submitFirstOptions(token);
+        submitFirstOptions(token);
+
+        assertWithinBudget(SCORE_SUMMARY_BUDGET, get("/api/scores/summary").header("Authorization", bearer(token)));
+        JsonNode summary = body(mockMvc.perform(get("/api/scores/summary").header("Authorization", bearer(token))).andReturn());
+        assertEquals(2, summary.get("attemptCount").asInt());
+        assertEquals(1, summary.get("currentStreakDays").asInt());
+    }
+
+    @Test
+    void leaderboardIsServedFromMemory() throws Exception {
+        submitFirstOptions(userToken);
+
+        assertWithinBudget(LEADERBOARD_BUDGET, get("/api/scores/leaderboard?limit=5").header("Authorization", bearer(userToken)));
+        JsonNode leaderboard = body(mockMvc.perform(get("/api/scores/leaderboard?limit=5")
+                .header("Authorization", bearer(userToken))).andReturn());
+        assertTrue(leaderboard.get("me").get("rank").asInt() >= 1);
+    }
+
+    @Test
+    void leaderboardRanksByScoreThenDuration() throws Exception {
+        String partialToken = signup("partial-").get("token").asText();
+        String fullToken = signup("full-").get("token").asText();
+        List<Map<String, Object>> correct = correctAnswers(submitAnswers(userToken, firstOptions(userToken)));
+
+        // A perfect answer to one question must not beat a full attempt with more correct answers
+        List<Map<String, Object>> allButOne = new ArrayList<>(correct);
+        Map<String, Object> skipped = new HashMap<>();
+        skipped.put("questionId", correct.get(0).get("questionId"));
+        skipped.put("selectedOptionId", null);
+        allButOne.set(0, skipped);
+        submitAnswers(partialToken, correct.subList(0, 1));
+        submitAnswers(fullToken, allButOne);
+
+        JsonNode partial = body(mockMvc.perform(get("/api/scores/leaderboard?limit=100")
+                .header("Authorization", bearer(partialToken))).andReturn());
+        JsonNode full = body(mockMvc.perform(get("/api/scores/leaderboard?limit=100")
+                .header("Authorization", bearer(fullToken))).andReturn());
+        assertTrue(full.get("me").get("rank").asInt() < partial.get("me").get("rank").asInt());
+
+        JsonNode top = full.get("top");
+        for (int i = 1; i < top.size(); i++) {
+            JsonNode above = top.get(i - 1);
+            JsonNode below = top.get(i);
+            assertEquals(i + 1, below.get("rank").asInt());
+            assertTrue(above.get("score").asInt() > below.get("score").asInt()
+                    || above.get("score").asInt() == below.get("score").asInt()
+                    && above.get("durationMillis").asLong() <= below.get("durationMillis").asLong(),
+                    () -> above + " ranked above " + below);
+        }
+    }
+
+    @Test
+    void percentileRanksAgainstEarlierTakers() throws Exception {
+        // A new question makes a question set nobody has taken yet
+        createQuestion(adminToken, "Percentile question");
+        JsonNode questions = body(mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(userToken))).andReturn());
+        List<Map<String, Object>> skipped = new ArrayList<>();
+        for (JsonNode question : questions) {
+            Map<String, Object> answer = new HashMap<>();
+            answer.put("questionId", question.get("id").asLong());
+            answer.put("selectedOptionId", null);
+            skipped.add(answer);
+        }
+
+        JsonNode first = submitAnswers(skipped);
+        assertTrue(first.get("percentile").isNull());
+
+        List<Map<String, Object>> correct = new ArrayList<>();
+        for (JsonNode result : first.get("questionResults")) {
+            for (JsonNode option : result.get("options")) {
+                if (option.get("isCorrect").asBoolean()) {
+                    correct.add(Map.of("questionId", result.get("questionId").asLong(), "selectedOptionId", option.get("id").asLong()));
+                }
+            }
+        }
+        assertEquals(100, submitAnswers(correct).get("percentile").asInt());
+        assertEquals(0, submitAnswers(skipped).get("percentile").asInt());
+    }
+
+    @Test
+    void listQuestionsDoesNotGrowWithTheBank() throws Exception {
+        int before = assertWithinBudget(LIST_QUESTIONS_BUDGET, get("/api/questions").header("Authorization", bearer(adminToken)));
+        createQuestion(adminToken, "Another question for the listing budget");
+        int after = assertWithinBudget(LIST_QUESTIONS_BUDGET, get("/api/questions").header("Authorization", bearer(adminToken)));
+        assertEquals(before, after, "question listing statement count changed with bank size");
+    }
+
+    @Test
+    void questionPageDoesNotGrowWithDepth() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            createQuestion(adminToken, "Paging budget question number " + i);
+        }
+        JsonNode first = body(mockMvc.perform(get("/api/questions/page?size=2").header("Authorization", bearer(adminToken))).andReturn());
+        long cursor = first.get("nextCursor").asLong();
+        for (int i = 0; i < 2; i++) {
+            cursor = body(mockMvc.perform(get("/api/questions/page?size=2&after=" + cursor)
+                    .header("Authorization", bearer(adminToken))).andReturn()).get("nextCursor").asLong();
+        }
+
+        int firstPage = assertWithinBudget(QUESTION_PAGE_BUDGET, get("/api/questions/page?size=2").header("Authorization", bearer(adminToken)));
+        int deepPage = assertWithinBudget(QUESTION_PAGE_BUDGET, get("/api/questions/page?size=2&after=" + cursor)
+                .header("Authorization", bearer(adminToken)));
+        assertEquals(firstPage, deepPage, "question page statement count changed with depth");
+        assertWithinBudget(QUESTION_PAGE_BUDGET, get("/api/questions/page?size=2&q=budget").header("Authorization", bearer(adminToken)));
+
+        // The bank size is not the number of matches, so a filtered page carries none
+        assertTrue(first.get("totalCount").asInt() >= 6);
+        JsonNode filtered = body(mockMvc.perform(get("/api/questions/page?size=2&q=paging")
+                .header("Authorization", bearer(adminToken))).andReturn());
+        assertEquals(2, filtered.get("questions").size());
+        assertTrue(filtered.get("totalCount").isNull());
+    }
+
+    @Test
+    void exportQuestions() throws Exception {
+        long kept = createQuestion(adminToken, "Which question is exported as is?");
+        long edited = createQuestion(adminToken, "Which question is edited before the export?");
+        long deleted = createQuestion(adminToken, "Which question is deleted before the export?");
+        long current = body(mockMvc.perform(put("/api/questions/" + edited)
+                .header("Authorization", bearer(adminToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(questionJson("Which question was edited before the export?")))
+                .andReturn()).get("id").asLong();
+        mockMvc.perform(delete("/api/questions/" + deleted).header("Authorization", bearer(adminToken)));
+
+        assertWithinBudget(EXPORT_QUESTIONS_BUDGET, get("/api/questions/export").header("Authorization", bearer(adminToken)));
+        List<JsonNode> all = exportLines(null);
+        List<Long> ids = all.stream().map(line -> line.get("id").asLong()).toList();
+        assertEquals(ids.stream().sorted().distinct().toList(), ids, "export is not in id order");
+        assertTrue(ids.contains(kept) && ids.contains(current));
+        assertTrue(!ids.contains(edited) && !ids.contains(deleted), "retired or deleted versions were exported");
+
+        JsonNode line = all.get(ids.indexOf(kept));
+        assertEquals("Which question is exported as is?", line.get("questionText").asText());
+        assertEquals(4, line.get("options").size());
+        assertEquals("First", line.get("options").get(0).get("optionText").asText());
+        assertTrue(line.get("options").get(0).get("isCorrect").asBoolean());
+        assertTrue(!line.get("options").get(1).get("isCorrect").asBoolean());
+
+        // Resuming after an id picks up exactly where that line left off
+        assertEquals(all.subList(ids.indexOf(kept) + 1, all.size()), exportLines(kept));
+    }
+
+    @Test
+    void importQuestions() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            ndjson.append(questionJson("Imported budget question number " + i)).append('\n');
+        }
+        MvcResult result = mockMvc.perform(post("/api/questions/import")
+                .header("Authorization", bearer(adminToken))
+                .contentType("application/x-ndjson")
+                .content(ndjson.toString()))
+                .andReturn();
+        assertEquals(40, body(result).get("imported").asInt());
+
+        assertWithinBudget(IMPORT_QUESTIONS_BUDGET, post("/api/questions/import")
+                .header("Authorization", bearer(adminToken))
+                .contentType("application/x-ndjson")
+                .content(ndjson.toString()));
+    }
+
+    @Test
+    void questionCrud() throws Exception {
+        long id = createQuestion(adminToken, "Which planet is known as the red planet?");
+
+        assertWithinBudget(GET_QUESTION_BUDGET, get("/api/questions/" + id).header("Authorization", bearer(adminToken)));
+        assertWithinBudget(CREATE_QUESTION_BUDGET, post("/api/questions")
+                .header("Authorization", bearer(adminToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(questionJson("Which gas do plants absorb from the air?")));
+
+        // Reword the question and one option, keep the other options as they are
+        JsonNode stored = body(mockMvc.perform(get("/api/questions/" + id).header("Authorization", bearer(adminToken))).andReturn());
+        List<Map<String, Object>> options = new ArrayList<>();
+        for (JsonNode option : stored.get("options")) {
+            String text = options.isEmpty() ? "First, reworded" : option.get("optionText").asText();
+            options.add(Map.of("id", option.get("id").asLong(), "optionText", text, "isCorrect", option.get("isCorrect").asBoolean()));
+        }
+        assertWithinBudget(UPDATE_QUESTION_BUDGET, put("/api/questions/" + id)
+                .header("Authorization", bearer(adminToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("questionText", "Which planet is called the red planet?", "options", options))));
+
+        // The edit retired that version, so delete a fresh question
+        long toDelete = createQuestion(adminToken, "Which question is about to be deleted?");
+        assertWithinBudget(DELETE_QUESTION_BUDGET, delete("/api/questions/" + toDelete).header("Authorization", bearer(adminToken)));
+
+        // Each write patched the previous snapshot; the result must match a full reload
+        String patched = bankJson(questionBankCache.getSnapshot());
+        assertTrue(patched.contains("plants absorb") && patched.contains("called the red planet"));
+        assertTrue(!patched.contains("known as the red planet") && !patched.contains("about to be deleted"));
+        assertEquals(patched, bankJson(questionBankCache.rebuild()));
+    }
+
+    @Test
+    void revokeTokens() throws Exception {
+        long userId = signup("revoke-").get("userId").asLong();
+        assertWithinBudget(REVOKE_TOKENS_BUDGET, post("/api/users/" + userId + "/revoke-tokens")
+                .header("Authorization", bearer(adminToken)));
+    }
+
+    @Test
+    void deleteUser() throws Exception {
+        long userId = signup("deleted-").get("userId").asLong();
+        assertWithinBudget(DELETE_USER_BUDGET, delete("/api/users/" + userId).header("Authorization", bearer(adminToken)));
+    }
+
+    @Test
+    void answerAnalyticsMergeFlushedAndPendingCounts() throws Exception {
+        submitFirstOptions(userToken);
+
+        assertWithinBudget(ANSWER_ANALYTICS_BUDGET, get("/api/analytics/questions").header("Authorization", bearer(adminToken)));
+        JsonNode pending = body(mockMvc.perform(get("/api/analytics/questions")
+                .header("Authorization", bearer(adminToken))).andReturn()).get(0);
+        assertTrue(pending.get("answeredCount").asLong() >= 1);
+        assertTrue(pending.get("options").get(0).get("pickCount").asLong() >= 1);
+
+        answerAnalytics.flush();
+        JsonNode flushed = body(mockMvc.perform(get("/api/analytics/questions")
+                .header("Authorization", bearer(adminToken))).andReturn()).get(0);
+        assertEquals(pending, flushed);
+    }
+
+    @Test
+    void scoreHistogramsRecordEachAttemptOnce() throws Exception {
+        scoreHistograms.flush();
+        long recordedBefore = recordedAttempts();
+        long attemptsBefore = quizAttemptRepository.count();
+
+        submitFirstOptions(userToken);
+        // A second instance starting now replays the attempts the first has not flushed yet
+        AutowireCapableBeanFactory beanFactory = applicationContext.getAutowireCapableBeanFactory();
+        ScoreHistograms otherInstance = beanFactory.createBean(ScoreHistograms.class);
+        submitFirstOptions(userToken);
+
+        otherInstance.flush();
+        scoreHistograms.flush();
+        beanFactory.destroyBean(otherInstance);
+
+        assertEquals(2, quizAttemptRepository.count() - attemptsBefore);
+        assertEquals(2, recordedAttempts() - recordedBefore);
+    }
+
+    private long recordedAttempts() {
+        return scoreHistogramRepository.findAll().stream().mapToLong(ScoreHistogram::getAttemptCount).sum();
+    }
+
+    private List<JsonNode> exportLines(Long after) throws Exception {
+        String path = after != null ? "/api/questions/export?after=" + after : "/api/questions/export";
+        String ndjson = mockMvc.perform(get(path).header("Authorization", bearer(adminToken)))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private String bankJson(QuestionBankSnapshot snapshot) throws Exception {
+        List<Object> review = new ArrayList<>();
+        for (int i = 0; i < snapshot.getQuestionCount(); i++) {
+            review.add(snapshot.getReviewQuestion(i));
+        }
+        return json(List.of(snapshot.getQuizQuestions(), review));
+    }
+
+    private int assertWithinBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        SqlStatementCounter.reset();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        int statements = SqlStatementCounter.count();
+
+        String description = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        assertTrue(result.getResponse().getStatus() < 400,
+                () -> description + " returned " + result.getResponse().getStatus());
+        assertTrue(statements <= budget, () -> description + " ran " + statements
+                + " statements, budget is " + budget + ":\n" + String.join("\n", SqlStatementCounter.statements()));
+        return statements;
+    }
+
+    private MockHttpServletRequestBuilder submitRequest(String token) throws Exception {
+        MvcResult start = mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(token))).andReturn();
+        JsonNode questions = body(start);
+        List<Map<String, Object>> answers = new ArrayList<>();
+        for (JsonNode question : questions) {
+            answers.add(Map.of(
+                    "questionId", question.get("id").asLong(),
+                    "selectedOptionId", question.get("options").get(0).get("id").asLong()));
+        }
+        return post("/api/quiz/submit")
+                .header("Authorization", bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("answers", answers,
+                        "startToken", start.getResponse().getHeader(QuizController.START_TOKEN_HEADER))));
+    }
+
+    private JsonNode submitAnswers(List<Map<String, Object>> answers) throws Exception {
+        return submitAnswers(userToken, answers);
+    }
+
+    private JsonNode submitAnswers(String token, List<Map<String, Object>> answers) throws Exception {
+        String startToken = mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(token)))
+                .andReturn().getResponse().getHeader(QuizController.START_TOKEN_HEADER);
+        return body(mockMvc.perform(post("/api/quiz/submit")
+                .header("Authorization", bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("answers", answers, "startToken", startToken))))
+                .andReturn());
+    }
+
+    private List<Map<String, Object>> firstOptions(String token) throws Exception {
+        List<Map<String, Object>> answers = new ArrayList<>();
+        for (JsonNode question : body(mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(token))).andReturn())) {
+            answers.add(Map.of(
+                    "questionId", question.get("id").asLong(),
+                    "selectedOptionId", question.get("options").get(0).get("id").asLong()));
+        }
+        return answers;
+    }
+
+    private List<Map<String, Object>> correctAnswers(JsonNode result) {
+        List<Map<String, Object>> correct = new ArrayList<>();
+        for (JsonNode question : result.get("questionResults")) {
+            for (JsonNode option : question.get("options")) {
+                if (option.get("isCorrect").asBoolean()) {
+                    correct.add(Map.of("questionId", question.get("questionId").asLong(), "selectedOptionId", option.get("id").asLong()));
+                }
+            }
+        }
+        return correct;
+    }
+
+    private void submitFirstOptions(String token) throws Exception {
+        mockMvc.perform(submitRequest(token));
+    }
+}
@@ -0,0 +1,127 @@
+package com.assessment.quizapp;
+
+import com.assessment.quizapp.service.QuestionImportService;
+import com.assessment.quizapp.support.ApiTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Bulk import with chunks of two rows. The chunk size is narrowed on the
+ * shared service for each test instead of in the context configuration, so
+ * this class runs in the same context as the other API tests. A check
+ * constraint on options stands in for a database failure that only shows up
+ * when a chunk is written.
+ */
+class QuestionImportTest extends ApiTestSupport {
+
+    private static final String POISON = "Rejected by the database";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QuestionImportService questionImportService;
+
+    private String adminToken;
+    private Object chunkSize;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate.execute("ALTER TABLE options DROP CONSTRAINT IF EXISTS options_not_poison");
+        jdbcTemplate.execute("ALTER TABLE options ADD CONSTRAINT options_not_poison CHECK (option_text <> '" + POISON + "')");
+        chunkSize = ReflectionTestUtils.getField(questionImportService, "chunkSize");
+        ReflectionTestUtils.setField(questionImportService, "chunkSize", 2);
+        adminToken = login("admin", "admin123");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(questionImportService, "chunkSize", chunkSize);
+        jdbcTemplate.execute("ALTER TABLE options DROP CONSTRAINT IF EXISTS options_not_poison");
+    }
+
+    @Test
+    void ndjsonReportsEachBadRowAndAFailedChunkRejectsOnlyItsOwnRows() throws Exception {
+        String ndjson = String.join("\n",
+                question("Which is the first imported question?", "Right"),       // 1, chunk 1
+                "{\"questionText\": \"Broken",                                      // 2, malformed
+                question("Short?", "Right"),                                        // 3, too short
+                question("Which is the second imported question?", "Right"),      // 4, chunk 1
+                question("Which question fails inside the database?", POISON),    // 5, chunk 2
+                "",
+                question("Which question shares the failing chunk?", "Right"),    // 7, chunk 2
+                twoCorrect("Which question has two correct answers?"),             // 8, invalid
+                question("Which is the last imported question?", "Right"));       // 9, chunk 3
+
+        JsonNode result = importQuestions("application/x-ndjson", ndjson);
+
+        assertEquals(3, result.get("imported").asInt());
+        assertEquals(5, result.get("failed").asInt());
+        Map<Integer, String> errors = errorsByLine(result);
+        assertEquals(List.of(2, 3, 5, 7, 8), List.copyOf(errors.keySet()));
+        assertTrue(errors.get(2).startsWith("Invalid JSON"), errors.get(2));
+        assertTrue(errors.get(3).startsWith("questionText"), errors.get(3));
+        assertTrue(errors.get(5).startsWith("Chunk rolled back"), errors.get(5));
+        assertEquals(errors.get(5), errors.get(7));
+        assertEquals("Exactly one correct option is required", errors.get(8));
+    }
+
+    @Test
+    void csvReportsRowsThatCannotBeRead() throws Exception {
+        String csv = String.join("\n",
+                "question_text,correct_option,option_1,option_2",
+                "Which CSV question imports fine?,1,Right,Wrong",
+                "Which CSV question has too few columns?,1,Right",
+                "Which CSV question has no number?,first,Right,Wrong",
+                "Which CSV question is unterminated?,1,\"Right,Wrong");
+
+        JsonNode result = importQuestions("text/csv", csv);
+
+        assertEquals(1, result.get("imported").asInt());
+        assertEquals(3, result.get("failed").asInt());
+        Map<Integer, String> errors = errorsByLine(result);
+        assertEquals(List.of(3, 4, 5), List.copyOf(errors.keySet()));
+        assertEquals("correct_option must be a number", errors.get(4));
+    }
+
+    private JsonNode importQuestions(String contentType, String body) throws Exception {
+        return body(mockMvc.perform(post("/api/questions/import")
+                .header("Authorization", bearer(adminToken))
+                .contentType(contentType)
+                .content(body))
+                .andReturn());
+    }
+
+    private static Map<Integer, String> errorsByLine(JsonNode result) {
+        Map<Integer, String> errors = new LinkedHashMap<>();
+        for (JsonNode error : result.get("errors")) {
+            errors.put(error.get("line").asInt(), error.get("message").asText());
+        }
+        return errors;
+    }
+
+    private String question(String text, String correctOption) throws Exception {
+        return json(Map.of("questionText", text, "options", List.of(
+                Map.of("optionText", correctOption, "isCorrect", true),
+                Map.of("optionText", "Wrong", "isCorrect", false))));
+    }
+
+    private String twoCorrect(String text) throws Exception {
+        return json(Map.of("questionText", text, "options", List.of(
+                Map.of("optionText", "Right", "isCorrect", true),
+                Map.of("optionText", "Also right", "isCorrect", true))));
+    }
+}
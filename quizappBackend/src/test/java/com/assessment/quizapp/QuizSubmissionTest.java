@@ -0,0 +1,120 @@
+package com.assessment.quizapp;
+
+import com.assessment.quizapp.controller.QuizController;
+import com.assessment.quizapp.support.ApiTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Submissions that must be turned away before anything is graded or saved.
+ */
+class QuizSubmissionTest extends ApiTestSupport {
+
+    private String userToken;
+    private JsonNode questions;
+    private String startToken;
+
+    @BeforeEach
+    void startQuiz() throws Exception {
+        userToken = login("user", "user123");
+        MvcResult start = mockMvc.perform(get("/api/quiz/start").header("Authorization", bearer(userToken))).andReturn();
+        questions = body(start);
+        startToken = start.getResponse().getHeader(QuizController.START_TOKEN_HEADER);
+    }
+
+    @Test
+    void submissionNeedsAStartTokenIssuedToTheSameUser() throws Exception {
+        List<Map<String, Object>> answers = firstOptions();
+
+        assertEquals(400, submit(userToken, answers, null));
+        assertEquals(400, submit(userToken, answers, "not-a-token"));
+        assertEquals(400, submit(signup("submitter-").get("token").asText(), answers, startToken));
+        assertEquals(200, submit(userToken, answers, startToken));
+    }
+
+    @Test
+    void answersThatDoNotMatchTheQuizAreRejected() throws Exception {
+        long first = questions.get(0).get("id").asLong();
+        long second = questions.get(1).get("id").asLong();
+        long secondsOption = questions.get(1).get("options").get(0).get("id").asLong();
+
+        List<Map<String, Object>> foreignOption = firstOptions();
+        foreignOption.set(0, answer(first, secondsOption));
+        assertEquals(400, submit(userToken, foreignOption, startToken));
+
+        List<Map<String, Object>> unknownQuestion = firstOptions();
+        unknownQuestion.add(answer(Long.MAX_VALUE, null));
+        assertEquals(400, submit(userToken, unknownQuestion, startToken));
+
+        List<Map<String, Object>> repeated = firstOptions();
+        repeated.add(answer(second, secondsOption));
+        assertEquals(400, submit(userToken, repeated, startToken));
+
+        assertEquals(200, submit(userToken, firstOptions(), startToken));
+    }
+
+    @Test
+    void retiredVersionsAreGradedButDeletedQuestionsAreNot() throws Exception {
+        String adminToken = login("admin", "admin123");
+        List<Map<String, Object>> answers = firstOptions();
+
+        // Edited after this quiz started, so the version it showed is still accepted
+        long edited = questions.get(0).get("id").asLong();
+        JsonNode stored = body(mockMvc.perform(get("/api/questions/" + edited).header("Authorization", bearer(adminToken))).andReturn());
+        List<Map<String, Object>> options = new ArrayList<>();
+        for (JsonNode option : stored.get("options")) {
+            options.add(Map.of("optionText", option.get("optionText").asText() + " (edited)",
+                    "isCorrect", option.get("isCorrect").asBoolean()));
+        }
+        assertEquals(200, mockMvc.perform(put("/api/questions/" + edited)
+                .header("Authorization", bearer(adminToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of(
+                        "questionText", stored.get("questionText").asText(), "options", options))))
+                .andReturn().getResponse().getStatus());
+        assertEquals(200, submit(userToken, answers, startToken));
+
+        long deleted = questions.get(1).get("id").asLong();
+        assertEquals(202, mockMvc.perform(delete("/api/questions/" + deleted).header("Authorization", bearer(adminToken)))
+                .andReturn().getResponse().getStatus());
+        assertEquals(400, submit(userToken, answers, startToken));
+    }
+
+    private List<Map<String, Object>> firstOptions() {
+        List<Map<String, Object>> answers = new ArrayList<>();
+        for (JsonNode question : questions) {
+            answers.add(answer(question.get("id").asLong(), question.get("options").get(0).get("id").asLong()));
+        }
+        return answers;
+    }
+
+    private static Map<String, Object> answer(long questionId, Long optionId) {
+        Map<String, Object> answer = new HashMap<>();
+        answer.put("questionId", questionId);
+        answer.put("selectedOptionId", optionId);
+        return answer;
+    }
+
+    private int submit(String token, List<Map<String, Object>> answers, String startToken) throws Exception {
+        Map<String, Object> submission = new HashMap<>();
+        submission.put("answers", answers);
+        submission.put("startToken", startToken);
+        return mockMvc.perform(post("/api/quiz/submit")
+                .header("Authorization", bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(submission)))
+                .andReturn().getResponse().getStatus();
+    }
+}
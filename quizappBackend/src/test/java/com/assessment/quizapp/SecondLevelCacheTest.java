@@ -0,0 +1,61 @@
+package com.assessment.quizapp;
+
+import com.assessment.quizapp.service.PurgeService;
+import com.assessment.quizapp.support.ApiTestSupport;
+import com.assessment.quizapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Questions and options are served from the second-level cache, and the
+ * purger's bulk deletes do not leave stale entries behind.
+ */
+class SecondLevelCacheTest extends ApiTestSupport {
+
+    @Autowired
+    private PurgeService purgeService;
+
+    private String adminToken;
+
+    @BeforeEach
+    void logIn() throws Exception {
+        adminToken = login("admin", "admin123");
+    }
+
+    @Test
+    void purgedVersionsAreNotServedFromTheCache() throws Exception {
+        long original = body(perform(post("/api/questions").contentType(MediaType.APPLICATION_JSON)
+                .content(questionJson("Which ocean is the largest on Earth?")))).get("id").asLong();
+        long edited = body(perform(put("/api/questions/" + original).contentType(MediaType.APPLICATION_JSON)
+                .content(questionJson("Which ocean is the largest one on Earth?")))).get("id").asLong();
+
+        // The retired version is still readable by id, and the second read is a cache hit
+        perform(get("/api/questions/" + original));
+        SqlStatementCounter.reset();
+        MvcResult cached = perform(get("/api/questions/" + original));
+        assertEquals(200, cached.getResponse().getStatus());
+        assertEquals(4, body(cached).get("options").size());
+        assertFalse(body(cached).get("active").asBoolean());
+        assertEquals(1, body(cached).get("versionNumber").asInt());
+        assertEquals(0, SqlStatementCounter.count(), () -> String.join("\n", SqlStatementCounter.statements()));
+
+        // Purging the deleted question removes every version with bulk deletes
+        assertEquals(202, perform(delete("/api/questions/" + edited)).getResponse().getStatus());
+        purgeService.runPendingTasks();
+
+        assertEquals(404, perform(get("/api/questions/" + original)).getResponse().getStatus());
+        assertEquals(404, perform(get("/api/questions/" + edited)).getResponse().getStatus());
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header("Authorization", bearer(adminToken))).andReturn();
+    }
+}
@@ -0,0 +1,63 @@
+package com.assessment.quizapp.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count for one endpoint. Recording is lock-free
+ * so it does not distort the measurement under high concurrency.
+ */
+class EndpointMetrics {
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram histogram;
+
+    EndpointMetrics(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void recordLatency(long nanos) {
+        recorder.recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Freezes the histogram; call once the run has finished.
+     */
+    Histogram histogram() {
+        if (histogram == null) {
+            histogram = recorder.getIntervalHistogram();
+        }
+        return histogram;
+    }
+
+    long getRequests() {
+        return histogram().getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : getErrors() / (double) requests;
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram().getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+}
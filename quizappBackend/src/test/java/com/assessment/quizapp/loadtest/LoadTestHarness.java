@@ -0,0 +1,159 @@
+package com.assessment.quizapp.loadtest;
+
+import com.assessment.quizapp.controller.QuizController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives the real HTTP quiz flow with a number of concurrent virtual users.
+ * Each user signs up and logs in once, then loops start, submit and scores
+ * until the run ends, pausing for the think time between requests.
+ */
+class LoadTestHarness {
+
+    static final String SIGNUP = "signup";
+    static final String LOGIN = "login";
+    static final String START = "start";
+    static final String SUBMIT = "submit";
+    static final String SCORES = "scores";
+
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointMetrics> metrics = new LinkedHashMap<>();
+
+    LoadTestHarness(String baseUrl, LoadTestSettings settings) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        for (String endpoint : List.of(SIGNUP, LOGIN, START, SUBMIT, SCORES)) {
+            metrics.put(endpoint, new EndpointMetrics(endpoint));
+        }
+    }
+
+    LoadTestReport run(String label) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + settings.rampUp().toNanos() + settings.duration().toNanos();
+        long rampUpStepNanos = settings.users() > 1 ? settings.rampUp().toNanos() / (settings.users() - 1) : 0;
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.users(); i++) {
+                long userStartsAt = startedAt + i * rampUpStepNanos;
+                users.submit(() -> {
+                    sleepUntil(userStartsAt);
+                    runUser(deadline);
+                    return null;
+                });
+            }
+        }
+        return new LoadTestReport(label, settings, Duration.ofNanos(System.nanoTime() - startedAt), metrics.values());
+    }
+
+    private void runUser(long deadline) throws Exception {
+        String username = "load" + ProcessHandle.current().pid() + "_" + USER_SEQUENCE.incrementAndGet();
+        String password = "password123";
+
+        String credentials = objectMapper.writeValueAsString(Map.of(
+                "username", username, "password", password, "email", username + "@load.test"));
+        if (call(SIGNUP, post("/api/auth/signup", null, credentials)) == null) {
+            return;
+        }
+        think();
+
+        HttpResponse<String> login = call(LOGIN, post("/api/auth/login", null, objectMapper.writeValueAsString(
+                Map.of("username", username, "password", password))));
+        if (login == null) {
+            return;
+        }
+        String token = objectMapper.readTree(login.body()).get("token").asText();
+
+        // Every user completes at least one full flow, even if signing up took the whole run
+        do {
+            think();
+            HttpResponse<String> start = call(START, get("/api/quiz/start", token));
+            if (start != null) {
+                think();
+                call(SUBMIT, post("/api/quiz/submit", token, submission(start)));
+            }
+            think();
+            call(SCORES, get("/api/scores", token));
+        } while (System.nanoTime() < deadline);
+    }
+
+    private HttpResponse<String> call(String endpoint, HttpRequest request) {
+        EndpointMetrics endpointMetrics = metrics.get(endpoint);
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointMetrics.recordLatency(System.nanoTime() - startedAt);
+            if (response.statusCode() != 200) {
+                endpointMetrics.recordError();
+                return null;
+            }
+            return response;
+        } catch (Exception e) {
+            endpointMetrics.recordLatency(System.nanoTime() - startedAt);
+            endpointMetrics.recordError();
+            return null;
+        }
+    }
+
+    private String submission(HttpResponse<String> start) throws Exception {
+        List<Map<String, Object>> answers = new ArrayList<>();
+        for (JsonNode question : objectMapper.readTree(start.body())) {
+            JsonNode options = question.get("options");
+            Map<String, Object> answer = new HashMap<>();
+            answer.put("questionId", question.get("id").asLong());
+            answer.put("selectedOptionId", options.isEmpty()
+                    ? null
+                    : options.get(ThreadLocalRandom.current().nextInt(options.size())).get("id").asLong());
+            answers.add(answer);
+        }
+        return objectMapper.writeValueAsString(Map.of("answers", answers,
+                "startToken", start.headers().firstValue(QuizController.START_TOKEN_HEADER).orElse("")));
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private void think() throws InterruptedException {
+        if (!settings.thinkTime().isZero()) {
+            Thread.sleep(settings.thinkTime());
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.assessment.quizapp.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class LoadTestReport {
+    private final String label;
+    private final LoadTestSettings settings;
+    private final Duration elapsed;
+    private final Map<String, EndpointMetrics> endpoints = new LinkedHashMap<>();
+
+    LoadTestReport(String label, LoadTestSettings settings, Duration elapsed, Collection<EndpointMetrics> endpoints) {
+        this.label = label;
+        this.settings = settings;
+        this.elapsed = elapsed;
+        endpoints.forEach(metrics -> this.endpoints.put(metrics.getName(), metrics));
+    }
+
+    EndpointMetrics endpoint(String name) {
+        return endpoints.get(name);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n[%s] %d users, think time %dms, %.1fs%n", label, settings.users(),
+                settings.thinkTime().toMillis(), elapsed.toMillis() / 1000.0);
+        out.printf("%-8s %9s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        for (EndpointMetrics metrics : endpoints.values()) {
+            out.printf("%-8s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7.2f%%%n",
+                    metrics.getName(),
+                    metrics.getRequests(),
+                    metrics.getRequests() / (elapsed.toMillis() / 1000.0),
+                    metrics.percentileMillis(50),
+                    metrics.percentileMillis(99),
+                    metrics.percentileMillis(99.9),
+                    metrics.histogram().getMaxValue() / 1_000_000.0,
+                    metrics.getErrorRate() * 100);
+        }
+    }
+
+    /**
+     * Writes one HdrHistogram percentile distribution file per endpoint, in
+     * milliseconds, for plotting or comparing runs.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointMetrics metrics : endpoints.values()) {
+            Path file = directory.resolve(label + "-" + metrics.getName() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                metrics.histogram().outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.assessment.quizapp.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test knobs, read from system properties so they can be passed on the
+ * Maven command line, e.g. {@code -Dloadtest.users=200}.
+ */
+record LoadTestSettings(int users, Duration duration, Duration thinkTime, Duration rampUp) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 100),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20)),
+                Duration.ofMillis(Long.getLong("loadtest.think-time-ms", 0)),
+                Duration.ofSeconds(Long.getLong("loadtest.ramp-up-seconds", 0))
+        );
+    }
+}
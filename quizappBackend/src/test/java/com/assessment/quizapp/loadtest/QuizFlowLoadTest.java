@@ -0,0 +1,45 @@
+package com.assessment.quizapp.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test of signup, login, start, submit and scores against
+ * the app on in-memory H2. Prints throughput, p50/p99/p999 latency and error
+ * rates per endpoint, and writes full histograms to target/loadtest.
+ *
+ * <pre>mvn test -P load-test -Dtest=QuizFlowLoadTest -Dloadtest.users=200 -Dloadtest.think-time-ms=500</pre>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest-flow",
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN"
+})
+class QuizFlowLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void quizFlowUnderLoad() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestReport report = new LoadTestHarness("http://localhost:" + port, settings).run("quiz-flow");
+
+        report.print(System.out);
+        report.writeHistograms(Path.of("target", "loadtest"));
+
+        assertTrue(report.endpoint(LoadTestHarness.SUBMIT).getRequests() > 0, "no submissions completed");
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "1.0"));
+        for (String endpoint : new String[] {LoadTestHarness.START, LoadTestHarness.SUBMIT, LoadTestHarness.SCORES}) {
+            assertTrue(report.endpoint(endpoint).getErrorRate() <= maxErrorRate,
+                    endpoint + " error rate above " + maxErrorRate);
+        }
+    }
+}
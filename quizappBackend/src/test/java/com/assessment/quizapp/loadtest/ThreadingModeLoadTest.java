@@ -0,0 +1,52 @@
+package com.assessment.quizapp.loadtest;
+
+import com.assessment.quizapp.QuizappApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the quiz flow against the app twice, once on Tomcat's platform thread
+ * pool and once with virtual threads, and prints both reports.
+ *
+ * <pre>mvn test -P load-test -Dtest=ThreadingModeLoadTest -Dloadtest.users=200 -Dloadtest.duration-seconds=30</pre>
+ */
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    @Test
+    void compareThreadingModes() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<LoadTestReport> reports = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (ConfigurableApplicationContext app = startApp(mode, virtualThreads)) {
+                String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+                reports.add(new LoadTestHarness(baseUrl, settings).run(mode));
+            }
+        }
+
+        for (LoadTestReport report : reports) {
+            report.print(System.out);
+            report.writeHistograms(Path.of("target", "loadtest"));
+            assertTrue(report.endpoint(LoadTestHarness.SUBMIT).getRequests() > 0, "no submissions completed");
+        }
+    }
+
+    private ConfigurableApplicationContext startApp(String mode, boolean virtualThreads) {
+        return new SpringApplicationBuilder(QuizappApplication.class).properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode,
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN"
+        ).run();
+    }
+}
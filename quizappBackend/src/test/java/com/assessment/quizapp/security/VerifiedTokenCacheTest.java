@@ -0,0 +1,46 @@
+package com.assessment.quizapp.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    void entriesExpireWithTheirToken() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        Claims longLived = claims(60_000);
+        cache.put("long-lived", longLived);
+        cache.put("short-lived", claims(50));
+        cache.put("no-expiry", Jwts.claims());
+
+        Thread.sleep(100);
+
+        assertSame(longLived, cache.get("long-lived"));
+        assertNull(cache.get("short-lived"));
+        assertNull(cache.get("no-expiry"));
+    }
+
+    @Test
+    void staysWithinItsMaximumSize() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("token-" + i, claims(60_000));
+        }
+        // Eviction runs asynchronously, shortly after the writes
+        for (int i = 0; i < 100 && cache.size() > 100; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(cache.size() <= 100, () -> "size " + cache.size());
+    }
+
+    private static Claims claims(long millisToLive) {
+        return Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + millisToLive));
+    }
+}
@@ -0,0 +1,98 @@
+package com.assessment.quizapp.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Base for tests that drive the API through MockMvc. Every subclass shares
+ * this configuration, so Spring starts one context and one database for all
+ * of them; tests must create what they need rather than expect an empty
+ * bank. Hashing runs on one thread with a queue of one at a fixed cost so
+ * the pool can be filled on purpose, and purges only run when a test calls
+ * the purger.
+ */
+@SpringBootTest(properties = {
+        SqlStatementCounter.PROPERTY,
+        "spring.datasource.url=jdbc:h2:mem:apitest",
+        "spring.jpa.show-sql=false",
+        "auth.hashing.threads=1",
+        "auth.hashing.queue-capacity=1",
+        "auth.bcrypt.strength=12",
+        "purge.interval-ms=3600000",
+        "purge.pause-ms=0",
+        "purge.grace-ms=0",
+        "purge.chunk-size=1"
+})
+@AutoConfigureMockMvc
+public abstract class ApiTestSupport {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected String login(String username, String password) throws Exception {
+        return body(loginRequest(username, password)).get("token").asText();
+    }
+
+    protected MvcResult loginRequest(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("username", username, "password", password))))
+                .andReturn();
+    }
+
+    /**
+     * Signs up a new user whose name starts with {@code prefix}, with the
+     * password "secret123", and returns the response with its token and id.
+     */
+    protected JsonNode signup(String prefix) throws Exception {
+        String username = prefix + UUID.randomUUID().toString().substring(0, 8);
+        return body(mockMvc.perform(post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("username", username, "email", username + "@quiz.com", "password", "secret123"))))
+                .andReturn());
+    }
+
+    protected long createQuestion(String adminToken, String text) throws Exception {
+        return body(mockMvc.perform(post("/api/questions")
+                .header("Authorization", bearer(adminToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(questionJson(text)))
+                .andReturn()).get("id").asLong();
+    }
+
+    // Four options, the first one correct
+    protected String questionJson(String text) throws Exception {
+        return json(Map.of("questionText", text, "options", List.of(
+                Map.of("optionText", "First", "isCorrect", true),
+                Map.of("optionText", "Second", "isCorrect", false),
+                Map.of("optionText", "Third", "isCorrect", false),
+                Map.of("optionText", "Fourth", "isCorrect", false))));
+    }
+
+    protected String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    protected JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    protected static String bearer(String token) {
+        return "Bearer " + token;
+    }
+}
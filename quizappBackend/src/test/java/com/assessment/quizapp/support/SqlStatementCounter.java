@@ -0,0 +1,39 @@
+package com.assessment.quizapp.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every SQL statement Hibernate prepares. Enable it for a test
+ * context by adding {@link #PROPERTY} to its properties, then bracket the
+ * code under test with {@link #reset()} and {@link #count()}. Statements
+ * are recorded per thread, so background work such as the purger does not
+ * show up in a request's count.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.assessment.quizapp.support.SqlStatementCounter";
+
+    private static final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        statements.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        statements.get().clear();
+    }
+
+    public static int count() {
+        return statements.get().size();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(statements.get());
+    }
+}
@@ -0,0 +1,56 @@
+package com.assessment.quizapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexableSkipListTest {
+
+    @Test
+    void matchesASortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        IndexableSkipList<Integer> list = new IndexableSkipList<>(Comparator.reverseOrder());
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(2000);
+            int index = Collections.binarySearch(expected, value, Comparator.reverseOrder());
+            if (index >= 0) {
+                assertTrue(list.remove(value));
+                expected.remove(index);
+            } else {
+                list.add(value);
+                expected.add(-index - 1, value);
+            }
+
+            if (step % 250 == 0) {
+                assertEquals(expected.size(), list.size());
+                assertEquals(expected, list.range(1, expected.size()));
+                for (int i = 0; i < expected.size(); i += 7) {
+                    assertEquals(i + 1, list.rank(expected.get(i)));
+                    assertEquals(expected.subList(i, Math.min(i + 3, expected.size())), list.range(i + 1, 3));
+                }
+            }
+        }
+    }
+
+    @Test
+    void missingElementsHaveNoRank() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>(Comparator.naturalOrder());
+        list.add(1);
+        list.add(3);
+
+        assertEquals(0, list.rank(2));
+        assertFalse(list.remove(2));
+        assertEquals(List.of(), list.range(3, 10));
+        assertEquals(List.of(3), list.range(2, 10));
+    }
+}